@@ -0,0 +1,40 @@
+package com.hr_manager.auth_service.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
+    @Bean(name = PASSWORD_HASHING_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(
+            @Value("${auth.password.hashing-threads:0}") int configuredThreads,
+            @Value("${auth.password.hashing-queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        // BCrypt is pure CPU: one thread per core at most, and a bounded queue so a login
+        // storm is turned away with 429 instead of starving every other request of CPU
+        int threads = configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+    }
+}
@@ -2,9 +2,12 @@ package com.hr_manager.auth_service.controller;
 
 import com.hr_manager.auth_service.dto.*;
 import com.hr_manager.auth_service.service.AuthService;
+import com.hr_manager.auth_service.util.TokenClaims;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -15,8 +18,9 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+                                               HttpServletRequest httpRequest) {
+        LoginResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
@@ -27,9 +31,9 @@ public class AuthController {
     }
 
     @GetMapping("/validate")
-    public ResponseEntity<ValidateResponse> validateToken(@RequestHeader("Authorization") String authHeader) {
-        String token = authHeader.substring(7); // Remove "Bearer " prefix
-        ValidateResponse response = authService.validateToken(token);
+    public ResponseEntity<ValidateResponse> validateToken(@AuthenticationPrincipal TokenClaims claims) {
+        // Already verified by JwtAuthenticationFilter, so the token is not parsed again here
+        ValidateResponse response = authService.validateToken(claims);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,42 @@
+package com.hr_manager.auth_service.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Last issued (unix millis << 12 | counter); the 12-bit counter keeps ids monotonic within a millisecond
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        // On counter overflow this borrows from the next millisecond rather than going backwards
+        long state = LAST_STATE.updateAndGet(last -> Math.max(now, last + 1));
+
+        long millis = state >>> 12;
+        long counter = state & 0xFFFL;
+        long mostSigBits = (millis << 16) | 0x7000L | counter;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
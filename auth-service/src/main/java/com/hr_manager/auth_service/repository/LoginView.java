@@ -0,0 +1,16 @@
+package com.hr_manager.auth_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Only what login needs: credentials plus the non-sensitive fields embedded in the token
+public interface LoginView {
+    UUID getId();
+    String getEmail();
+    String getPasswordHash();
+    String getRole();
+    String getName();
+    String getDepartment();
+    String getPosition();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,34 @@
+package com.hr_manager.auth_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PasswordHashRepository {
+
+    // Compare-and-set on the old hash, so a concurrent password change is never overwritten.
+    // RETURNING hands back the updated_at the users trigger stamped, in the same round trip
+    private static final String UPDATE_HASH_SQL = """
+        UPDATE users
+           SET password_hash = ?
+         WHERE id = ? AND password_hash = ?
+        RETURNING updated_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Empty when the hash changed in the meantime and nothing was updated
+    public Optional<LocalDateTime> updatePasswordHash(UUID id, String oldHash, String newHash) {
+        List<LocalDateTime> updatedAt = jdbcTemplate.query(UPDATE_HASH_SQL,
+            (resultSet, rowNum) -> resultSet.getObject(1, LocalDateTime.class),
+            newHash, id, oldHash);
+        return updatedAt.stream().findFirst();
+    }
+}
@@ -2,13 +2,27 @@ package com.hr_manager.auth_service.repository;
 
 import com.hr_manager.auth_service.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
-}
 
+    @Query("SELECT u.id AS id, u.email AS email, u.passwordHash AS passwordHash, u.role AS role, " +
+           "u.name AS name, u.department AS department, u.position AS position, u.updatedAt AS updatedAt " +
+           "FROM User u WHERE u.email = :email")
+    Optional<LoginView> findLoginByEmail(@Param("email") String email);
+
+    @Query("SELECT u.id AS id, u.updatedAt AS updatedAt FROM User u")
+    List<UserUpdateView> findAllUpdates();
+
+    @Query("SELECT u.id AS id, u.updatedAt AS updatedAt FROM User u WHERE u.updatedAt >= :since")
+    List<UserUpdateView> findUpdatesSince(@Param("since") LocalDateTime since);
+}
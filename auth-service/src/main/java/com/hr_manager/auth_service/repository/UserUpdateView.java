@@ -0,0 +1,9 @@
+package com.hr_manager.auth_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserUpdateView {
+    UUID getId();
+    LocalDateTime getUpdatedAt();
+}
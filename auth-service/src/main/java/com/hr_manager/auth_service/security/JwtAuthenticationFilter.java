@@ -1,6 +1,7 @@
 package com.hr_manager.auth_service.security;
 
 import com.hr_manager.auth_service.util.JwtUtil;
+import com.hr_manager.auth_service.util.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,19 +37,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            if (jwtUtil.validateToken(token)) {
-                String email = jwtUtil.extractEmail(token);
-                String role = jwtUtil.extractRole(token);
-
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        email,
-                        null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
-                );
-
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            // One parse verifies the token; its claims become the principal for the controller
+            TokenClaims claims = jwtUtil.parse(token);
+
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    claims,
+                    null,
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + claims.role().toUpperCase()))
+            );
+
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         } catch (Exception e) {
             // Invalid token, continue without authentication
             logger.error("JWT validation failed: " + e.getMessage());
@@ -0,0 +1,179 @@
+package com.hr_manager.auth_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hr_manager.auth_service.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+@Component
+public class LoginThrottle {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Limits accountLimits;
+    private final Limits ipLimits;
+    private final long lockoutBaseNanos;
+    private final long lockoutMaxNanos;
+    private final int lockoutThreshold;
+    private final LongSupplier nanoClock;
+
+    // Caffeine is striped internally; each bucket is then updated with a CAS, so no locks are taken.
+    // Idle buckets expire, which bounds memory under credential stuffing from many addresses
+    private final Cache<String, Bucket> buckets;
+
+    private final Counter accountRateRejections;
+    private final Counter ipRateRejections;
+    private final Counter accountLockoutRejections;
+
+    private record Limits(double capacity, double tokensPerNano) {
+    }
+
+    // tokens: remaining attempts; failures: consecutive failed logins since the last success
+    private record State(double tokens, long refilledAtNanos, int failures, long lockedUntilNanos) {
+    }
+
+    private static final class Bucket {
+        private final AtomicReference<State> state;
+
+        private Bucket(double capacity, long now) {
+            this.state = new AtomicReference<>(new State(capacity, now, 0, now));
+        }
+    }
+
+    public LoginThrottle(@Value("${auth.throttle.account.capacity:5}") int accountCapacity,
+                         @Value("${auth.throttle.account.refill-period:PT1M}") Duration accountRefillPeriod,
+                         @Value("${auth.throttle.ip.capacity:20}") int ipCapacity,
+                         @Value("${auth.throttle.ip.refill-period:PT1M}") Duration ipRefillPeriod,
+                         @Value("${auth.throttle.lockout.threshold:5}") int lockoutThreshold,
+                         @Value("${auth.throttle.lockout.base:PT30S}") Duration lockoutBase,
+                         @Value("${auth.throttle.lockout.max:PT15M}") Duration lockoutMax,
+                         @Value("${auth.throttle.max-tracked-keys:100000}") long maxTrackedKeys,
+                         MeterRegistry meterRegistry) {
+        this(accountCapacity, accountRefillPeriod, ipCapacity, ipRefillPeriod, lockoutThreshold,
+                lockoutBase, lockoutMax, maxTrackedKeys, meterRegistry, System::nanoTime);
+    }
+
+    // nanoClock drives refills, lockouts and bucket expiry; tests pass a fake one
+    LoginThrottle(int accountCapacity, Duration accountRefillPeriod, int ipCapacity, Duration ipRefillPeriod,
+                  int lockoutThreshold, Duration lockoutBase, Duration lockoutMax, long maxTrackedKeys,
+                  MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        // capacity attempts, refilled in full over refill-period
+        this.accountLimits = new Limits(accountCapacity, accountCapacity / (double) accountRefillPeriod.toNanos());
+        this.ipLimits = new Limits(ipCapacity, ipCapacity / (double) ipRefillPeriod.toNanos());
+        this.lockoutThreshold = lockoutThreshold;
+        this.lockoutBaseNanos = lockoutBase.toNanos();
+        this.lockoutMaxNanos = lockoutMax.toNanos();
+        this.nanoClock = nanoClock;
+
+        // A bucket idle this long is full again and no longer locked, so dropping it loses nothing
+        long idleNanos = Math.max(lockoutMaxNanos, Math.max(accountRefillPeriod.toNanos(), ipRefillPeriod.toNanos()));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(idleNanos, TimeUnit.NANOSECONDS)
+                .ticker(nanoClock::getAsLong)
+                .build();
+
+        this.accountRateRejections = rejections(meterRegistry, "account_rate");
+        this.ipRateRejections = rejections(meterRegistry, "ip_rate");
+        this.accountLockoutRejections = rejections(meterRegistry, "account_locked");
+    }
+
+    // Call before any lookup or hashing; takes one attempt from both the account and the IP bucket.
+    // clientIp is the connection's remote address: behind a reverse proxy that is the proxy itself
+    // unless server.forward-headers-strategy is set, and every client would share one bucket
+    public void acquire(String email, String clientIp) {
+        long now = nanoClock.getAsLong();
+        acquire(bucket(accountKey(email), accountLimits, now), accountLimits, now,
+                accountRateRejections, accountLockoutRejections);
+        acquire(bucket(ipKey(clientIp), ipLimits, now), ipLimits, now, ipRateRejections, null);
+    }
+
+    // Only the account is locked out. The IP bucket stays rate-only: many users can share an
+    // address behind NAT, and their combined typos must not lock all of them out
+    public void recordFailure(String email) {
+        long now = nanoClock.getAsLong();
+        recordFailure(bucket(accountKey(email), accountLimits, now), now);
+    }
+
+    public void recordSuccess(String email) {
+        Bucket bucket = buckets.getIfPresent(accountKey(email));
+        if (bucket != null) {
+            bucket.state.updateAndGet(state -> state.failures() == 0
+                    ? state
+                    : new State(state.tokens(), state.refilledAtNanos(), 0, state.lockedUntilNanos()));
+        }
+    }
+
+    // lockoutRejections is null for buckets that are never locked out
+    private void acquire(Bucket bucket, Limits limits, long now, Counter rateRejections, Counter lockoutRejections) {
+        while (true) {
+            State current = bucket.state.get();
+            if (lockoutRejections != null && current.lockedUntilNanos() - now > 0) {
+                lockoutRejections.increment();
+                throw rejected(current.lockedUntilNanos() - now);
+            }
+
+            double tokens = Math.min(limits.capacity(),
+                    current.tokens() + (now - current.refilledAtNanos()) * limits.tokensPerNano());
+            if (tokens < 1) {
+                rateRejections.increment();
+                throw rejected((long) ((1 - tokens) / limits.tokensPerNano()));
+            }
+
+            State next = new State(tokens - 1, now, current.failures(), current.lockedUntilNanos());
+            if (bucket.state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private void recordFailure(Bucket bucket, long now) {
+        bucket.state.updateAndGet(state -> {
+            int failures = state.failures() + 1;
+            long lockedUntil = state.lockedUntilNanos();
+            if (failures >= lockoutThreshold) {
+                // base, 2x base, 4x base, ... up to the maximum
+                int doublings = Math.min(failures - lockoutThreshold, 30);
+                long lockout = Math.min(lockoutMaxNanos, lockoutBaseNanos << doublings);
+                if (lockout < 0) {
+                    lockout = lockoutMaxNanos;
+                }
+                lockedUntil = now + lockout;
+            }
+            return new State(state.tokens(), state.refilledAtNanos(), failures, lockedUntil);
+        });
+    }
+
+    private Bucket bucket(String key, Limits limits, long now) {
+        return buckets.get(key, ignored -> new Bucket(limits.capacity(), now));
+    }
+
+    private static String accountKey(String email) {
+        return "account:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static TooManyRequestsException rejected(long waitNanos) {
+        long retryAfterSeconds = Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        return new TooManyRequestsException("Too many login attempts, please retry later", retryAfterSeconds);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before credentials were checked")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -2,10 +2,12 @@ package com.hr_manager.auth_service.service;
 
 import com.hr_manager.auth_service.dto.*;
 import com.hr_manager.auth_service.entity.User;
+import com.hr_manager.auth_service.repository.LoginView;
 import com.hr_manager.auth_service.repository.UserRepository;
+import com.hr_manager.auth_service.security.LoginThrottle;
 import com.hr_manager.auth_service.util.JwtUtil;
+import com.hr_manager.auth_service.util.TokenClaims;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -15,20 +17,37 @@ import java.util.UUID;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final JwtUtil jwtUtil;
+    private final UserLookupService userLookupService;
+    private final UserFreshnessTracker userFreshnessTracker;
+    private final LoginThrottle loginThrottle;
 
-    public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        // Throttled before any database lookup or BCrypt work is spent on the attempt
+        loginThrottle.acquire(request.getEmail(), clientIp);
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        LoginView login = userRepository.findLoginByEmail(request.getEmail()).orElse(null);
+
+        // BCrypt runs on the bounded hashing executor, not the request thread
+        PasswordVerifier.Verification verification =
+                login == null ? null : passwordVerifier.verify(request.getPassword(), login);
+        if (verification == null || !verification.matched()) {
+            loginThrottle.recordFailure(request.getEmail());
             throw new RuntimeException("Invalid credentials");
         }
+        loginThrottle.recordSuccess(request.getEmail());
+
+        UserDto userDto = UserDto.builder()
+                .id(login.getId().toString())
+                .name(login.getName())
+                .email(login.getEmail())
+                .role(login.getRole())
+                .department(login.getDepartment())
+                .position(login.getPosition())
+                .build();
 
-        String token = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
-
-        UserDto userDto = mapToUserDto(user);
+        String token = jwtUtil.generateToken(userDto, verification.userUpdatedAt());
 
         return LoginResponse.builder()
                 .token(token)
@@ -36,16 +55,26 @@ public class AuthService {
                 .build();
     }
 
-    public ValidateResponse validateToken(String token) {
-        if (!jwtUtil.validateToken(token)) {
+    public ValidateResponse validateToken(TokenClaims claims) {
+        if (claims == null) {
             throw new RuntimeException("Invalid or expired token");
         }
 
-        String email = jwtUtil.extractEmail(token);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        UserDto userDto = mapToUserDto(user);
+        // Answer from the token's snapshot unless the user changed after it was issued
+        UserDto userDto;
+        if (userFreshnessTracker.isCurrent(claims.userId(), claims.userUpdatedAt())) {
+            userDto = UserDto.builder()
+                    .id(claims.userId().toString())
+                    .name(claims.name())
+                    .email(claims.email())
+                    .role(claims.role())
+                    .department(claims.department())
+                    .position(claims.position())
+                    .build();
+        } else {
+            userDto = userLookupService.findById(claims.userId())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+        }
 
         return ValidateResponse.builder()
                 .valid(true)
@@ -71,7 +100,7 @@ public class AuthService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
-    private UserDto mapToUserDto(User user) {
+    static UserDto mapToUserDto(User user) {
         return UserDto.builder()
                 .id(user.getId().toString())
                 .name(user.getName())
@@ -0,0 +1,82 @@
+package com.hr_manager.auth_service.service;
+
+import com.hr_manager.auth_service.config.PasswordHashingConfig;
+import com.hr_manager.auth_service.exception.TooManyRequestsException;
+import com.hr_manager.auth_service.repository.LoginView;
+import com.hr_manager.auth_service.repository.PasswordHashRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+@Slf4j
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashRepository passwordHashRepository;
+    private final ExecutorService hashingExecutor;
+
+    @Value("${auth.password.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            PasswordHashRepository passwordHashRepository,
+                            @Qualifier(PasswordHashingConfig.PASSWORD_HASHING_EXECUTOR) ExecutorService hashingExecutor) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashRepository = passwordHashRepository;
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    // userUpdatedAt is what the token should carry: the rehash's own timestamp when this login
+    // upgraded the stored hash, since the update moves updated_at
+    public record Verification(boolean matched, LocalDateTime userUpdatedAt) {
+    }
+
+    public Verification verify(String rawPassword, LoginView login) {
+        CompletableFuture<Verification> result;
+        try {
+            result = CompletableFuture.supplyAsync(() -> verifyOnExecutor(rawPassword, login), hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException("Too many login attempts, please retry shortly", retryAfterSeconds);
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Runs on the hashing executor
+    private Verification verifyOnExecutor(String rawPassword, LoginView login) {
+        if (!passwordEncoder.matches(rawPassword, login.getPasswordHash())) {
+            return new Verification(false, null);
+        }
+
+        // The configured cost went up since this hash was made: rehash while we have the plaintext.
+        // The update fires the updated_at trigger, so the token must carry the new timestamp
+        // or /auth/validate would treat it as stale straight away
+        if (passwordEncoder.upgradeEncoding(login.getPasswordHash())) {
+            String upgraded = passwordEncoder.encode(rawPassword);
+            Optional<LocalDateTime> rehashedAt =
+                    passwordHashRepository.updatePasswordHash(login.getId(), login.getPasswordHash(), upgraded);
+            if (rehashedAt.isPresent()) {
+                log.info("Rehashed password for user {} with the current BCrypt cost", login.getId());
+                return new Verification(true, rehashedAt.get());
+            }
+        }
+        return new Verification(true, login.getUpdatedAt());
+    }
+}
@@ -0,0 +1,119 @@
+package com.hr_manager.auth_service.service;
+
+import com.hr_manager.auth_service.repository.UserRepository;
+import com.hr_manager.auth_service.repository.UserUpdateView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Slf4j
+public class UserFreshnessTracker {
+
+    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final Duration pollOverlap;
+
+    private final Map<UUID, LocalDateTime> lastUpdated = new ConcurrentHashMap<>();
+    // Polls and full reloads both rewrite the map, so they take turns
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile LocalDateTime watermark;
+
+    public UserFreshnessTracker(UserRepository userRepository,
+                                UserLookupService userLookupService,
+                                @Value("${auth.users.poll-overlap:PT1M}") Duration pollOverlap) {
+        this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
+        this.pollOverlap = pollOverlap;
+    }
+
+    // True when the user still exists and has not changed since the token captured their data
+    public boolean isCurrent(UUID userId, LocalDateTime tokenUserUpdatedAt) {
+        if (tokenUserUpdatedAt == null) {
+            return false;
+        }
+        LocalDateTime known = lastUpdated.get(userId);
+        return known != null && !known.isAfter(tokenUserUpdatedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.users.refresh-interval:PT10S}")
+    public void refresh() {
+        lock.lock();
+        try {
+            if (watermark == null) {
+                reloadAll();
+                return;
+            }
+
+            // The trigger stamps the transaction's start time, so an update committing after a poll can
+            // carry a timestamp below that poll's watermark. Re-reading an overlap window catches it;
+            // rows seen before with the same timestamp are not counted as changes
+            LocalDateTime since = watermark.minus(pollOverlap);
+            int changed = apply(userRepository.findUpdatesSince(since));
+            if (changed > 0) {
+                log.debug("{} users changed since {}", changed, since);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Also drops users deleted since the last reload, which an updated_at poll can't see
+    @Scheduled(fixedDelayString = "${auth.users.full-refresh-interval:PT5M}",
+               initialDelayString = "${auth.users.full-refresh-interval:PT5M}")
+    public void reloadAll() {
+        lock.lock();
+        try {
+            List<UserUpdateView> all = userRepository.findAllUpdates();
+            Set<UUID> present = new HashSet<>(all.size() * 2);
+            for (UserUpdateView update : all) {
+                present.add(update.getId());
+            }
+            int changed = apply(all);
+
+            int removed = 0;
+            for (UUID userId : Set.copyOf(lastUpdated.keySet())) {
+                if (!present.contains(userId)) {
+                    lastUpdated.remove(userId);
+                    userLookupService.evict(userId);
+                    removed++;
+                }
+            }
+
+            log.info("Tracking updated_at for {} users ({} changed, {} removed)", lastUpdated.size(), changed, removed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int apply(List<UserUpdateView> updates) {
+        LocalDateTime newWatermark = watermark;
+        int changed = 0;
+        for (UserUpdateView update : updates) {
+            if (update.getUpdatedAt() == null) {
+                continue;
+            }
+            LocalDateTime previous = lastUpdated.put(update.getId(), update.getUpdatedAt());
+            if (previous != null && previous.isBefore(update.getUpdatedAt())) {
+                userLookupService.evict(update.getId());
+                changed++;
+            }
+            if (newWatermark == null || update.getUpdatedAt().isAfter(newWatermark)) {
+                newWatermark = update.getUpdatedAt();
+            }
+        }
+        watermark = newWatermark;
+        return changed;
+    }
+}
@@ -0,0 +1,35 @@
+package com.hr_manager.auth_service.service;
+
+import com.hr_manager.auth_service.dto.UserDto;
+import com.hr_manager.auth_service.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class UserLookupService {
+
+    public static final String USERS_CACHE = "users";
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    // Only the non-sensitive fields are cached, never the password hash or personal data
+    @Cacheable(cacheNames = USERS_CACHE, key = "#userId", unless = "#result == null")
+    public Optional<UserDto> findById(UUID userId) {
+        return userRepository.findById(userId).map(AuthService::mapToUserDto);
+    }
+
+    public void evict(UUID userId) {
+        Cache cache = cacheManager.getCache(USERS_CACHE);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.hr_manager.auth_service.util;
 
+import com.hr_manager.auth_service.dto.UserDto;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,85 +11,66 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
-    @Value("${jwt.expiration}")
-    private Long expiration;
-
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final Long expiration;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") Long expiration) {
+        // Key and parser are immutable and thread-safe, so both are built once at startup
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .setSigningKey(signingKey)
+                .build();
+        this.expiration = expiration;
     }
 
-    public String generateToken(UUID userId, String email, String role) {
+    public String generateToken(UserDto user, LocalDateTime userUpdatedAt) {
+        // Non-sensitive profile fields ride along so /auth/validate needn't load the user
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", userId.toString());
-        claims.put("email", email);
-        claims.put("role", role);
+        claims.put("userId", user.getId());
+        claims.put("email", user.getEmail());
+        claims.put("role", user.getRole());
+        claims.put("name", user.getName());
+        claims.put("department", user.getDepartment());
+        claims.put("position", user.getPosition());
+        if (userUpdatedAt != null) {
+            claims.put("userUpdatedAt", userUpdatedAt.toString());
+        }
 
         return Jwts.builder()
                 .setClaims(claims)
-                .setSubject(email)
+                .setSubject(user.getEmail())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public UUID extractUserId(String token) {
-        return UUID.fromString(extractClaim(token, claims -> claims.get("userId", String.class)));
-    }
-
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
-    }
-
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    public Boolean validateToken(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
-    }
-
-    public Boolean validateToken(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+    // Verifies signature and expiry and reads every claim in one parse; throws JwtException if invalid
+    public TokenClaims parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        String userUpdatedAt = claims.get("userUpdatedAt", String.class);
+
+        return new TokenClaims(
+                UUID.fromString(claims.get("userId", String.class)),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("name", String.class),
+                claims.get("department", String.class),
+                claims.get("position", String.class),
+                userUpdatedAt != null ? LocalDateTime.parse(userUpdatedAt) : null,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
     }
 }
-
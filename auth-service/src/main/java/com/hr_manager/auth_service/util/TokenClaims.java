@@ -0,0 +1,18 @@
+package com.hr_manager.auth_service.util;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Claims of a token whose signature and expiry have already been checked. The user fields
+// are a snapshot taken at login; userUpdatedAt is users.updated_at at that moment
+public record TokenClaims(UUID userId, String email, String role, String name, String department,
+                          String position, LocalDateTime userUpdatedAt, Instant issuedAt, Instant expiresAt)
+        implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
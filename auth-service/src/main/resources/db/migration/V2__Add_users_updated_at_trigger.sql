@@ -0,0 +1,14 @@
+-- Keep updated_at current on every update, including ones made outside the application,
+-- since /auth/validate uses it to decide whether the user data in a token is still fresh
+CREATE OR REPLACE FUNCTION set_users_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER users_set_updated_at
+    BEFORE UPDATE ON users
+    FOR EACH ROW EXECUTE FUNCTION set_users_updated_at();
+
+CREATE INDEX idx_users_updated_at ON users(updated_at);
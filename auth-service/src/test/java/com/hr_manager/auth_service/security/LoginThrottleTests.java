@@ -0,0 +1,107 @@
+package com.hr_manager.auth_service.security;
+
+import com.hr_manager.auth_service.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class LoginThrottleTests {
+
+    private static final String IP = "10.0.0.1";
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    // 5 attempts per account and 20 per IP each minute; locked for 30s after 5 failures, up to 15 minutes
+    private final LoginThrottle throttle = new LoginThrottle(5, Duration.ofMinutes(1), 20, Duration.ofMinutes(1),
+        5, Duration.ofSeconds(30), Duration.ofMinutes(15), 1000, new SimpleMeterRegistry(), now::get);
+
+    @Test
+    void accountBucketRefillsOneAttemptPerInterval() {
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("alice@example.com", IP);
+        }
+        assertThat(retryAfter("alice@example.com", IP)).isEqualTo(12);
+
+        // Part of the wait has passed: Retry-After rounds the rest up to whole seconds
+        advance(Duration.ofMillis(1));
+        assertThat(retryAfter("alice@example.com", IP)).isEqualTo(12);
+        advance(Duration.ofSeconds(5));
+        assertThat(retryAfter("alice@example.com", IP)).isEqualTo(7);
+
+        advance(Duration.ofSeconds(7));
+        assertThatCode(() -> throttle.acquire("alice@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void ipBucketLimitsTheRateAcrossAccounts() {
+        for (int i = 0; i < 20; i++) {
+            throttle.acquire("user" + i + "@example.com", IP);
+        }
+        assertThat(retryAfter("another@example.com", IP)).isEqualTo(3);
+        assertThatCode(() -> throttle.acquire("another@example.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void lockoutDoublesWithEachFailureUpToTheMaximum() {
+        failures("alice@example.com", 4);
+        assertThatCode(() -> throttle.acquire("alice@example.com", IP)).doesNotThrowAnyException();
+
+        failures("alice@example.com", 1);
+        assertThat(retryAfter("alice@example.com", IP)).isEqualTo(30);
+        advance(Duration.ofSeconds(30));
+        assertThatCode(() -> throttle.acquire("alice@example.com", IP)).doesNotThrowAnyException();
+
+        failures("alice@example.com", 1);
+        assertThat(retryAfter("alice@example.com", IP)).isEqualTo(60);
+        failures("alice@example.com", 1);
+        assertThat(retryAfter("alice@example.com", IP)).isEqualTo(120);
+
+        failures("alice@example.com", 20);
+        assertThat(retryAfter("alice@example.com", IP)).isEqualTo(900);
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        failures("alice@example.com", 5);
+        advance(Duration.ofSeconds(30));
+        throttle.acquire("alice@example.com", IP);
+        throttle.recordSuccess("Alice@Example.com ");
+
+        failures("alice@example.com", 4);
+        assertThatCode(() -> throttle.acquire("alice@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failuresNeverLockOutTheSharedAddress() {
+        for (int i = 0; i < 10; i++) {
+            throttle.acquire("user" + i + "@example.com", IP);
+            throttle.recordFailure("user" + i + "@example.com");
+        }
+        failures("alice@example.com", 10);
+
+        assertThat(retryAfter("alice@example.com", IP)).isPositive();
+        assertThatCode(() -> throttle.acquire("bob@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    private void failures(String email, int count) {
+        for (int i = 0; i < count; i++) {
+            throttle.recordFailure(email);
+        }
+    }
+
+    private long retryAfter(String email, String clientIp) {
+        TooManyRequestsException rejected = catchThrowableOfType(TooManyRequestsException.class,
+            () -> throttle.acquire(email, clientIp));
+        assertThat(rejected).isNotNull();
+        return rejected.getRetryAfterSeconds();
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,88 @@
+package com.hr_manager.auth_service.service;
+
+import com.hr_manager.auth_service.repository.UserRepository;
+import com.hr_manager.auth_service.repository.UserUpdateView;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserFreshnessTrackerTests {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserLookupService userLookupService = mock(UserLookupService.class);
+    private final UserFreshnessTracker tracker =
+        new UserFreshnessTracker(userRepository, userLookupService, Duration.ofMinutes(1));
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    void tokenIsCurrentUntilTheUserChanges() {
+        when(userRepository.findAllUpdates()).thenReturn(List.of(update(alice, T0)));
+        tracker.refresh();
+
+        assertThat(tracker.isCurrent(alice, T0)).isTrue();
+        assertThat(tracker.isCurrent(alice, T0.minusSeconds(1))).isFalse();
+        assertThat(tracker.isCurrent(alice, null)).isFalse();
+        assertThat(tracker.isCurrent(bob, T0)).isFalse();
+    }
+
+    @Test
+    void pollRereadsTheOverlapWindowAndCatchesLateCommits() {
+        when(userRepository.findAllUpdates()).thenReturn(List.of(update(alice, T0), update(bob, T0)));
+        tracker.refresh();
+
+        // Alice's update moved the watermark to T0+30s; Bob's transaction started earlier but committed later
+        when(userRepository.findUpdatesSince(T0.minusMinutes(1)))
+            .thenReturn(List.of(update(alice, T0.plusSeconds(30))));
+        tracker.refresh();
+        when(userRepository.findUpdatesSince(T0.plusSeconds(30).minusMinutes(1)))
+            .thenReturn(List.of(update(alice, T0.plusSeconds(30)), update(bob, T0.plusSeconds(10))));
+        tracker.refresh();
+
+        assertThat(tracker.isCurrent(bob, T0)).isFalse();
+        verify(userLookupService).evict(bob);
+        // Seen again inside the overlap with the same timestamp: not a new change
+        verify(userLookupService).evict(alice);
+    }
+
+    @Test
+    void fullReloadForgetsDeletedUsers() {
+        when(userRepository.findAllUpdates()).thenReturn(List.of(update(alice, T0), update(bob, T0)));
+        tracker.refresh();
+        assertThat(tracker.isCurrent(bob, T0)).isTrue();
+
+        when(userRepository.findAllUpdates()).thenReturn(List.of(update(alice, T0)));
+        tracker.reloadAll();
+
+        assertThat(tracker.isCurrent(bob, T0)).isFalse();
+        assertThat(tracker.isCurrent(alice, T0)).isTrue();
+        verify(userLookupService).evict(bob);
+        verify(userLookupService, never()).evict(alice);
+    }
+
+    private static UserUpdateView update(UUID id, LocalDateTime updatedAt) {
+        return new UserUpdateView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+}
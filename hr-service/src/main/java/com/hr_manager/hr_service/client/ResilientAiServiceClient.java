@@ -0,0 +1,69 @@
+package com.hr_manager.hr_service.client;
+
+import com.hr_manager.hr_service.dto.PolishRequest;
+import com.hr_manager.hr_service.dto.PolishResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class ResilientAiServiceClient {
+
+    public static final String AI_SERVICE = "ai-service";
+
+    private final AiServiceClient aiServiceClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+
+    public ResilientAiServiceClient(AiServiceClient aiServiceClient,
+                                    CircuitBreakerRegistry circuitBreakerRegistry,
+                                    BulkheadRegistry bulkheadRegistry,
+                                    MeterRegistry meterRegistry) {
+        this.aiServiceClient = aiServiceClient;
+        // Limits come from resilience4j.circuitbreaker/bulkhead.instances.ai-service
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(AI_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(AI_SERVICE);
+        this.circuitOpenRejections = Counter.builder("ai.polish.rejected")
+            .description("AI polish calls not sent to the AI service")
+            .tag("reason", "circuit_open")
+            .register(meterRegistry);
+        this.bulkheadRejections = Counter.builder("ai.polish.rejected")
+            .description("AI polish calls not sent to the AI service")
+            .tag("reason", "bulkhead_full")
+            .register(meterRegistry);
+    }
+
+    // Empty when the call was not attempted (breaker open or bulkhead full); upstream errors are rethrown
+    public Optional<PolishResponse> polishText(PolishRequest request) {
+        // Bulkhead outermost, so its rejections are not recorded as upstream failures by the breaker
+        Supplier<PolishResponse> call = Bulkhead.decorateSupplier(bulkhead,
+            CircuitBreaker.decorateSupplier(circuitBreaker, () -> aiServiceClient.polishText(request)));
+        try {
+            return Optional.of(call.get());
+        } catch (CallNotPermittedException e) {
+            circuitOpenRejections.increment();
+            return Optional.empty();
+        } catch (BulkheadFullException e) {
+            bulkheadRejections.increment();
+            return Optional.empty();
+        }
+    }
+
+    public boolean isOpen() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+}
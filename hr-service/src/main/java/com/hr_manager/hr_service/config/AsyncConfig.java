@@ -0,0 +1,32 @@
+package com.hr_manager.hr_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    public static final String FEEDBACK_POLISH_EXECUTOR = "feedbackPolishExecutor";
+
+    @Bean(name = FEEDBACK_POLISH_EXECUTOR)
+    public ThreadPoolTaskExecutor feedbackPolishExecutor(
+            @Value("${feedback.polish.pool-size:4}") int poolSize,
+            @Value("${feedback.polish.queue-capacity:200}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // Bounded on both threads and queue; rejected work is left for the retry sweeper
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("feedback-polish-");
+        if (virtualThreads) {
+            // Keeps the same concurrency and queue bounds, the workers just don't hold platform threads
+            executor.setThreadFactory(Thread.ofVirtual().name("feedback-polish-", 1).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.hr_manager.hr_service.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FeignClientMetricsConfig {
+
+    // Per-call latency comes from feign-micrometer (http.client.requests); this adds pool utilization
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(manager -> {
+            if (!(manager instanceof PoolingHttpClientConnectionManager pool)) {
+                return;
+            }
+            Gauge.builder("feign.http.pool.leased", pool, p -> p.getTotalStats().getLeased())
+                .description("Connections currently in use by Feign clients")
+                .register(registry);
+            Gauge.builder("feign.http.pool.available", pool, p -> p.getTotalStats().getAvailable())
+                .description("Idle keep-alive connections in the Feign pool")
+                .register(registry);
+            Gauge.builder("feign.http.pool.pending", pool, p -> p.getTotalStats().getPending())
+                .description("Requests waiting for a pooled connection")
+                .register(registry);
+            Gauge.builder("feign.http.pool.max", pool, p -> p.getTotalStats().getMax())
+                .description("Maximum connections in the Feign pool")
+                .register(registry);
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.hr_manager.hr_service.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled", "threads.virtual.pin-logging.enabled"}, havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 12;
+
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${threads.virtual.pin-logging.threshold:PT20MS}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        // Logs virtual threads blocked while pinned (e.g. inside synchronized in JDBC/Hibernate code)
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::logPinned);
+        stream.startAsync();
+        log.info("Logging virtual thread pinning longer than {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void logPinned(RecordedEvent event) {
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        log.warn("Virtual thread {} pinned for {} ms at:\n{}", thread, event.getDuration().toMillis(),
+            formatStackTrace(event.getStackTrace()));
+    }
+
+    private static String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "    <no stack trace>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+            .limit(MAX_FRAMES)
+            .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber())
+            .collect(Collectors.joining("\n"));
+    }
+}
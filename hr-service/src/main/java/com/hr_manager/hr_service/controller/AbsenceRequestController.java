@@ -1,17 +1,27 @@
 package com.hr_manager.hr_service.controller;
 
 import com.hr_manager.hr_service.dto.AbsenceRequestResponse;
+import com.hr_manager.hr_service.dto.BulkAbsenceDecisionRequest;
+import com.hr_manager.hr_service.dto.BulkAbsenceDecisionResponse;
+import com.hr_manager.hr_service.dto.CoverageResponse;
 import com.hr_manager.hr_service.dto.CreateAbsenceRequestRequest;
+import com.hr_manager.hr_service.dto.LeaveBalanceReconciliationResponse;
+import com.hr_manager.hr_service.dto.LeaveBalanceResponse;
 import com.hr_manager.hr_service.dto.MessageResponse;
 import com.hr_manager.hr_service.security.UserPrincipal;
 import com.hr_manager.hr_service.service.AbsenceRequestService;
+import com.hr_manager.hr_service.service.LeaveBalanceService;
+import com.hr_manager.hr_service.service.TeamCoverageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,12 +31,53 @@ import java.util.UUID;
 public class AbsenceRequestController {
 
     private final AbsenceRequestService absenceRequestService;
+    private final TeamCoverageService teamCoverageService;
+    private final LeaveBalanceService leaveBalanceService;
 
     @GetMapping("/me")
     public ResponseEntity<List<AbsenceRequestResponse>> getMyAbsenceRequests(
-            @AuthenticationPrincipal UserPrincipal principal) {
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
+        String etag = absenceRequestService.getMyAbsenceRequestsVersion(principal);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<AbsenceRequestResponse> requests = absenceRequestService.getMyAbsenceRequests(principal);
-        return ResponseEntity.ok(requests);
+        return ResponseEntity.ok().eTag(etag).body(requests);
+    }
+
+    @GetMapping("/me/overlaps")
+    public ResponseEntity<List<AbsenceRequestResponse>> getMyOverlappingAbsenceRequests(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        List<AbsenceRequestResponse> overlaps =
+            absenceRequestService.getMyOverlappingAbsenceRequests(from, to, principal);
+        return ResponseEntity.ok(overlaps);
+    }
+
+    @GetMapping("/me/balance")
+    public ResponseEntity<LeaveBalanceResponse> getMyBalance(
+            @RequestParam(required = false) Integer year,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        LeaveBalanceResponse balance = leaveBalanceService.getMyBalance(year, principal);
+        return ResponseEntity.ok(balance);
+    }
+
+    @GetMapping("/balances")
+    public ResponseEntity<List<LeaveBalanceResponse>> getBalances(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) String department,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        List<LeaveBalanceResponse> balances = leaveBalanceService.getBalances(year, department, principal);
+        return ResponseEntity.ok(balances);
+    }
+
+    @PostMapping("/balances/reconcile")
+    public ResponseEntity<LeaveBalanceReconciliationResponse> reconcileBalances(
+            @AuthenticationPrincipal UserPrincipal principal) {
+        LeaveBalanceReconciliationResponse report = leaveBalanceService.reconcileBalances(principal);
+        return ResponseEntity.ok(report);
     }
 
     @GetMapping("/pending")
@@ -36,6 +87,16 @@ public class AbsenceRequestController {
         return ResponseEntity.ok(requests);
     }
 
+    @GetMapping("/coverage")
+    public ResponseEntity<CoverageResponse> getCoverage(
+            @RequestParam String department,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        CoverageResponse coverage = teamCoverageService.getCoverage(department, from, to, principal);
+        return ResponseEntity.ok(coverage);
+    }
+
     @PostMapping
     public ResponseEntity<AbsenceRequestResponse> createAbsenceRequest(
             @Valid @RequestBody CreateAbsenceRequestRequest request,
@@ -61,5 +122,12 @@ public class AbsenceRequestController {
         absenceRequestService.rejectAbsenceRequest(requestId, principal);
         return ResponseEntity.ok(new MessageResponse("Absence request rejected", id));
     }
-}
 
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkAbsenceDecisionResponse> decideAbsenceRequests(
+            @Valid @RequestBody BulkAbsenceDecisionRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        BulkAbsenceDecisionResponse response = absenceRequestService.decideAbsenceRequests(request, principal);
+        return ResponseEntity.ok(response);
+    }
+}
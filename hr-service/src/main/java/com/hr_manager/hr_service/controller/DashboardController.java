@@ -0,0 +1,24 @@
+package com.hr_manager.hr_service.controller;
+
+import com.hr_manager.hr_service.dto.ManagerDashboardResponse;
+import com.hr_manager.hr_service.security.UserPrincipal;
+import com.hr_manager.hr_service.service.ManagerDashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final ManagerDashboardService managerDashboardService;
+
+    @GetMapping("/manager")
+    public ResponseEntity<ManagerDashboardResponse> getManagerDashboard(
+            @AuthenticationPrincipal UserPrincipal principal) {
+        ManagerDashboardResponse dashboard = managerDashboardService.getDashboard(principal);
+        return ResponseEntity.ok(dashboard);
+    }
+}
@@ -2,6 +2,7 @@ package com.hr_manager.hr_service.controller;
 
 import com.hr_manager.hr_service.dto.CreateFeedbackRequest;
 import com.hr_manager.hr_service.dto.FeedbackResponse;
+import com.hr_manager.hr_service.dto.PolishStatusResponse;
 import com.hr_manager.hr_service.security.UserPrincipal;
 import com.hr_manager.hr_service.service.FeedbackService;
 import jakarta.validation.Valid;
@@ -10,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,10 +25,15 @@ public class FeedbackController {
 
     @GetMapping
     public ResponseEntity<List<FeedbackResponse>> getFeedbackForProfile(
-            @PathVariable String profileId) {
+            @PathVariable String profileId,
+            WebRequest webRequest) {
         UUID id = UUID.fromString(profileId);
+        String etag = feedbackService.getFeedbackVersion(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<FeedbackResponse> feedback = feedbackService.getFeedbackForProfile(id);
-        return ResponseEntity.ok(feedback);
+        return ResponseEntity.ok().eTag(etag).body(feedback);
     }
 
     @PostMapping
@@ -38,5 +45,13 @@ public class FeedbackController {
         FeedbackResponse feedback = feedbackService.createFeedback(id, request, principal);
         return ResponseEntity.status(HttpStatus.CREATED).body(feedback);
     }
-}
 
+    @GetMapping("/{feedbackId}/polish-status")
+    public ResponseEntity<PolishStatusResponse> getPolishStatus(
+            @PathVariable String profileId,
+            @PathVariable String feedbackId) {
+        PolishStatusResponse status = feedbackService.getPolishStatus(
+            UUID.fromString(profileId), UUID.fromString(feedbackId));
+        return ResponseEntity.ok(status);
+    }
+}
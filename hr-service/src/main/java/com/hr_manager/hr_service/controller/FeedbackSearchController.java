@@ -0,0 +1,27 @@
+package com.hr_manager.hr_service.controller;
+
+import com.hr_manager.hr_service.dto.FeedbackSearchPage;
+import com.hr_manager.hr_service.security.UserPrincipal;
+import com.hr_manager.hr_service.service.FeedbackService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/feedback")
+@RequiredArgsConstructor
+public class FeedbackSearchController {
+
+    private final FeedbackService feedbackService;
+
+    @GetMapping("/search")
+    public ResponseEntity<FeedbackSearchPage> searchFeedback(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        FeedbackSearchPage page = feedbackService.searchFeedback(q, cursor, size, principal);
+        return ResponseEntity.ok(page);
+    }
+}
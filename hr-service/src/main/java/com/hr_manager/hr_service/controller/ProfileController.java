@@ -1,17 +1,29 @@
 package com.hr_manager.hr_service.controller;
 
+import com.hr_manager.hr_service.dto.ProfileDirectoryPage;
 import com.hr_manager.hr_service.dto.ProfileResponse;
 import com.hr_manager.hr_service.dto.PublicProfileResponse;
 import com.hr_manager.hr_service.dto.UpdateProfileRequest;
+import com.hr_manager.hr_service.exception.BadRequestException;
+import com.hr_manager.hr_service.exception.ForbiddenException;
 import com.hr_manager.hr_service.security.UserPrincipal;
+import com.hr_manager.hr_service.service.ProfileExportService;
+import com.hr_manager.hr_service.service.ProfileSearchService;
 import com.hr_manager.hr_service.service.ProfileService;
+import com.hr_manager.hr_service.service.PublicDirectoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @RestController
@@ -20,6 +32,9 @@ import java.util.UUID;
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final ProfileExportService profileExportService;
+    private final PublicDirectoryService publicDirectoryService;
+    private final ProfileSearchService profileSearchService;
 
     @GetMapping("/me")
     public ResponseEntity<ProfileResponse> getMyProfile(
@@ -31,10 +46,14 @@ public class ProfileController {
     @GetMapping("/{id}")
     public ResponseEntity<?> getProfileById(
             @PathVariable String id,
-            @AuthenticationPrincipal UserPrincipal principal) {
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
         UUID profileId = UUID.fromString(id);
-        Object profile = profileService.getProfileById(profileId, principal);
-        return ResponseEntity.ok(profile);
+        ProfileService.VersionedProfile profile = profileService.getProfileById(profileId, principal);
+        if (profile.etag() != null && webRequest.checkNotModified(profile.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(profile.etag()).body(profile.profile());
     }
 
     @PutMapping("/{id}")
@@ -48,9 +67,119 @@ public class ProfileController {
     }
 
     @GetMapping
-    public ResponseEntity<List<PublicProfileResponse>> getAllProfiles() {
-        List<PublicProfileResponse> profiles = profileService.getAllProfiles();
-        return ResponseEntity.ok(profiles);
+    public ResponseEntity<byte[]> getAllProfiles(
+            @RequestHeader HttpHeaders requestHeaders) {
+        // Served from a pre-encoded snapshot - no database or Jackson work per request
+        PublicDirectoryService.Snapshot snapshot = publicDirectoryService.getSnapshot();
+        boolean gzip = acceptsGzip(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+
+        if (matchesAny(requestHeaders.getIfNoneMatch(), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(etag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return response
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(snapshot.gzippedJson());
+        }
+        return response.body(snapshot.json());
+    }
+
+    @GetMapping("/directory")
+    public ResponseEntity<ProfileDirectoryPage> getProfileDirectory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        ProfileDirectoryPage page = profileService.getProfileDirectoryPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PublicProfileResponse>> searchProfiles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<PublicProfileResponse> results = profileSearchService.search(q, limit);
+        return ResponseEntity.ok(results);
     }
-}
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProfiles(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        if (!principal.isManager()) {
+            throw new ForbiddenException("Not authorized - manager role required");
+        }
+
+        ProfileExportService.Format exportFormat;
+        MediaType mediaType;
+        if ("csv".equalsIgnoreCase(format)) {
+            exportFormat = ProfileExportService.Format.CSV;
+            mediaType = new MediaType("text", "csv");
+        } else if ("ndjson".equalsIgnoreCase(format)) {
+            exportFormat = ProfileExportService.Format.NDJSON;
+            mediaType = MediaType.APPLICATION_NDJSON;
+        } else {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+
+        StreamingResponseBody body = outputStream -> profileExportService.exportDirectory(outputStream, exportFormat);
+        return ResponseEntity.ok()
+            .contentType(mediaType)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"profiles." + exportFormat.name().toLowerCase() + "\"")
+            .body(body);
+    }
+
+    // If-None-Match uses the weak comparison, so W/"x" still matches "x"
+    private static boolean matchesAny(List<String> ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch) {
+            if ("*".equals(tag) || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // gzip is used only when offered with a non-zero q, either by name or through "*"
+    private static boolean acceptsGzip(List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String header : acceptEncoding) {
+            for (String entry : header.split(",")) {
+                String[] parts = entry.split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+                double quality = 1.0;
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                        try {
+                            quality = Double.parseDouble(parameter.substring(2).trim());
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                    gzipQuality = quality;
+                } else if ("*".equals(coding)) {
+                    anyQuality = quality;
+                }
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+}
@@ -16,8 +16,10 @@ public class AbsenceRequestResponse {
     private String employeeName;
     private LocalDate startDate;
     private LocalDate endDate;
+    private int workingDays;
     private String reason;
     private String status;
     private LocalDateTime createdAt;
+    private String coverageWarning;
 }
 
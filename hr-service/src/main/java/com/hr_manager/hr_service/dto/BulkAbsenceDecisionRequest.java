@@ -0,0 +1,25 @@
+package com.hr_manager.hr_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAbsenceDecisionRequest {
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 10000, message = "At most 10000 ids per request")
+    private List<@NotNull(message = "Ids must not be null") UUID> ids;
+
+    @NotNull(message = "Status is required")
+    @Pattern(regexp = "approved|rejected", message = "Status must be approved or rejected")
+    private String status;
+}
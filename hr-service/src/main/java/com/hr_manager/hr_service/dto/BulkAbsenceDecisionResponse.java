@@ -0,0 +1,24 @@
+package com.hr_manager.hr_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAbsenceDecisionResponse {
+    private String status;
+    private int updated;
+    private List<Result> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private String id;
+        private String outcome; // updated, not_found, already_decided
+    }
+}
@@ -0,0 +1,39 @@
+package com.hr_manager.hr_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverageResponse {
+    private String department;
+    private LocalDate from;
+    private LocalDate to;
+    private int headcount;
+    private List<Day> days;
+    private List<Employee> employees;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private int approved;
+        private int pending;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Employee {
+        private String employeeId;
+        private String employeeName;
+        private int approvedDays;
+        private int pendingDays;
+    }
+}
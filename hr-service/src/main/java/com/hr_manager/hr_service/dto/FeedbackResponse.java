@@ -17,5 +17,6 @@ public class FeedbackResponse {
     private String content;
     private LocalDateTime createdAt;
     private Boolean isPolished;
+    private String polishStatus;
 }
 
@@ -0,0 +1,16 @@
+package com.hr_manager.hr_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalanceReconciliationResponse {
+    private int fromYear;
+    private int toYear;
+    private int employeesChecked;
+    private int rowsCorrected;
+    private int rowsCreated;
+}
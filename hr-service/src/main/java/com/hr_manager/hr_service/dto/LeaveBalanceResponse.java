@@ -0,0 +1,18 @@
+package com.hr_manager.hr_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalanceResponse {
+    private String employeeId;
+    private String employeeName;
+    private int year;
+    private int entitlementDays;
+    private int approvedDays;
+    private int pendingDays;
+    private int remainingDays;
+}
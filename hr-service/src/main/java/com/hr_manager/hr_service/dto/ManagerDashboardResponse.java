@@ -0,0 +1,43 @@
+package com.hr_manager.hr_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerDashboardResponse {
+    private int pendingAbsences;
+    private LocalDateTime oldestPendingCreatedAt;
+    private int feedbackLast7Days;
+    private int feedbackLast30Days;
+    private List<DepartmentHeadcount> departments;
+    private List<UpcomingAbsence> upcomingAbsences;
+    private LocalDateTime generatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DepartmentHeadcount {
+        private String department;
+        private int headcount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UpcomingAbsence {
+        private String id;
+        private String employeeId;
+        private String employeeName;
+        private String department;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private String status;
+    }
+}
@@ -0,0 +1,15 @@
+package com.hr_manager.hr_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolishStatusResponse {
+    private String id;
+    private String polishStatus;
+    private Boolean isPolished;
+    private Integer attempts;
+}
@@ -0,0 +1,16 @@
+package com.hr_manager.hr_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileDirectoryPage {
+    private List<PublicProfileResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -19,7 +19,7 @@ import java.util.UUID;
 public class AbsenceRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "employee_id", nullable = false)
@@ -44,5 +44,9 @@ public class AbsenceRequest {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
 
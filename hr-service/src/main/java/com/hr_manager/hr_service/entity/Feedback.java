@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -17,7 +18,7 @@ import java.util.UUID;
 public class Feedback {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "profile_id", nullable = false)
@@ -32,8 +33,18 @@ public class Feedback {
     @Column(name = "is_polished")
     private Boolean isPolished = false;
 
+    @Column(name = "polish_status", nullable = false)
+    private String polishStatus = "none"; // none, pending, done, failed
+
+    @Column(name = "polish_attempts", nullable = false)
+    private Integer polishAttempts = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
 }
 
@@ -0,0 +1,40 @@
+package com.hr_manager.hr_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "leave_balances")
+@IdClass(LeaveBalanceId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalance {
+
+    @Id
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Id
+    @Column(name = "balance_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "entitlement_days", nullable = false)
+    private Integer entitlementDays;
+
+    @Column(name = "approved_days", nullable = false)
+    private Integer approvedDays = 0;
+
+    @Column(name = "pending_days", nullable = false)
+    private Integer pendingDays = 0;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.hr_manager.hr_service.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalanceId implements Serializable {
+    private UUID employeeId;
+    private Integer year;
+}
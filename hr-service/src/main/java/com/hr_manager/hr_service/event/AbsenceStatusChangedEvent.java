@@ -0,0 +1,18 @@
+package com.hr_manager.hr_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class AbsenceStatusChangedEvent {
+    private UUID requestId;
+    private UUID employeeId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String previousStatus; // null when the request was just created
+    private String newStatus;
+}
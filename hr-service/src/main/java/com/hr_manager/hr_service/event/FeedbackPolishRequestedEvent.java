@@ -0,0 +1,12 @@
+package com.hr_manager.hr_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class FeedbackPolishRequestedEvent {
+    private UUID feedbackId;
+}
@@ -0,0 +1,15 @@
+package com.hr_manager.hr_service.event;
+
+import com.hr_manager.hr_service.dto.PublicProfileResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ProfileUpdatedEvent {
+    private UUID profileId;
+    private PublicProfileResponse publicProfile;
+    private boolean publicFieldsChanged;
+}
@@ -0,0 +1,7 @@
+package com.hr_manager.hr_service.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -2,19 +2,25 @@ package com.hr_manager.hr_service.exception;
 
 import com.hr_manager.hr_service.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private static final String ABSENCE_OVERLAP_CONSTRAINT = "absence_requests_no_overlap";
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
         log.error("Resource not found: {}", ex.getMessage());
@@ -48,6 +54,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler({ConflictException.class, ObjectOptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConflictException(RuntimeException ex) {
+        log.error("Conflict: {}", ex.getMessage());
+        String message = ex instanceof ConflictException
+            ? ex.getMessage()
+            : "The resource was modified concurrently. Please reload and try again.";
+        ErrorResponse error = new ErrorResponse(
+            "Conflict",
+            message,
+            HttpStatus.CONFLICT.value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        if (!violatesConstraint(ex, ABSENCE_OVERLAP_CONSTRAINT)) {
+            return handleGenericException(ex);
+        }
+
+        log.error("Conflict: overlapping absence request");
+        ErrorResponse error = new ErrorResponse(
+            "Conflict",
+            "Absence request overlaps an existing request",
+            HttpStatus.CONFLICT.value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
         String message = ex.getBindingResult().getFieldErrors().stream()
@@ -73,5 +108,19 @@ public class GlobalExceptionHandler {
         );
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
-}
 
+    private boolean violatesConstraint(Throwable ex, String constraintName) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && constraintName.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+            // Exclusion violations (SQLSTATE 23P01) may not carry a parsed constraint name
+            if (cause instanceof SQLException && cause.getMessage() != null
+                    && cause.getMessage().contains(constraintName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,109 @@
+package com.hr_manager.hr_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class AbsenceDecisionRepository {
+
+    // Decides every pending id and classifies the rest in a single round trip.
+    // The final SELECT sees the pre-update snapshot, so updated rows are told
+    // apart through the RETURNING set rather than their status.
+    private static final String BULK_DECIDE_SQL = """
+        WITH input AS (
+            SELECT DISTINCT unnest(?::uuid[]) AS id
+        ), updated AS (
+            UPDATE absence_requests a
+               SET status = ?, version = a.version + 1, updated_at = LOCALTIMESTAMP
+              FROM input i
+             WHERE a.id = i.id AND a.status = 'pending'
+            RETURNING a.id, a.employee_id, a.start_date, a.end_date
+        )
+        SELECT i.id,
+               CASE WHEN u.id IS NOT NULL THEN 'updated'
+                    WHEN a.id IS NULL THEN 'not_found'
+                    ELSE 'already_decided'
+               END AS outcome,
+               u.employee_id,
+               u.start_date,
+               u.end_date
+          FROM input i
+          LEFT JOIN updated u ON u.id = i.id
+          LEFT JOIN absence_requests a ON a.id = i.id
+        """;
+
+    // The span comes back as generated keys (RETURNING on Postgres), so a single decision
+    // needs no follow-up SELECT to build its ledger entry and event
+    private static final String DECIDE_ONE_SQL = """
+        UPDATE absence_requests
+           SET status = ?, version = version + 1, updated_at = LOCALTIMESTAMP
+         WHERE id = ? AND status = 'pending'
+        """;
+    private static final String[] DECIDED_COLUMNS = {"employee_id", "start_date", "end_date"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Outcome(UUID id, String outcome, UUID employeeId, LocalDate startDate, LocalDate endDate) {
+        public boolean isUpdated() {
+            return "updated".equals(outcome);
+        }
+    }
+
+    public List<Outcome> decidePending(Collection<UUID> ids, String status) {
+        return jdbcTemplate.query(BULK_DECIDE_SQL,
+            statement -> {
+                statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids.toArray()));
+                statement.setString(2, status);
+            },
+            resultSet -> {
+                List<Outcome> outcomes = new ArrayList<>();
+                while (resultSet.next()) {
+                    outcomes.add(new Outcome(
+                        resultSet.getObject(1, UUID.class),
+                        resultSet.getString(2),
+                        resultSet.getObject(3, UUID.class),
+                        resultSet.getObject(4, LocalDate.class),
+                        resultSet.getObject(5, LocalDate.class)
+                    ));
+                }
+                return outcomes;
+            });
+    }
+
+    // Empty when the request doesn't exist or is no longer pending
+    public Optional<Outcome> decideOne(UUID id, String status) {
+        return jdbcTemplate.execute(
+            (Connection connection) -> {
+                PreparedStatement statement = connection.prepareStatement(DECIDE_ONE_SQL, DECIDED_COLUMNS);
+                statement.setString(1, status);
+                statement.setObject(2, id);
+                return statement;
+            },
+            (PreparedStatement statement) -> {
+                if (statement.executeUpdate() == 0) {
+                    return Optional.<Outcome>empty();
+                }
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    if (!keys.next()) {
+                        throw new IllegalStateException("No row returned for decided absence request " + id);
+                    }
+                    return Optional.of(new Outcome(id, "updated",
+                        keys.getObject(1, UUID.class),
+                        keys.getObject(2, LocalDate.class),
+                        keys.getObject(3, LocalDate.class)));
+                }
+            });
+    }
+}
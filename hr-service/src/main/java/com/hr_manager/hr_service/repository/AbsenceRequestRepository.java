@@ -2,8 +2,12 @@ package com.hr_manager.hr_service.repository;
 
 import com.hr_manager.hr_service.entity.AbsenceRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,5 +15,26 @@ import java.util.UUID;
 public interface AbsenceRequestRepository extends JpaRepository<AbsenceRequest, UUID> {
     List<AbsenceRequest> findByEmployeeIdOrderByCreatedAtDesc(UUID employeeId);
     List<AbsenceRequest> findByStatusOrderByCreatedAtAsc(String status);
-}
 
+    @Query("SELECT COUNT(a) AS rowCount, MAX(a.updatedAt) AS lastChanged, MAX(u.updatedAt) AS lastUserChange " +
+           "FROM AbsenceRequest a JOIN User u ON u.id = a.employeeId WHERE a.employeeId = :employeeId")
+    VersionView findVersionByEmployeeId(@Param("employeeId") UUID employeeId);
+
+    @Query("SELECT a.employeeId AS employeeId, a.startDate AS startDate, a.endDate AS endDate, a.status AS status " +
+           "FROM AbsenceRequest a WHERE a.status <> 'rejected' AND a.endDate >= :from")
+    List<AbsenceSpanView> findActiveSpansEndingOnOrAfter(@Param("from") LocalDate from);
+
+    @Query("SELECT a.employeeId AS employeeId, a.startDate AS startDate, a.endDate AS endDate, a.status AS status " +
+           "FROM AbsenceRequest a WHERE a.employeeId IN :employeeIds AND a.status <> 'rejected' " +
+           "AND a.startDate <= :to AND a.endDate >= :from")
+    List<AbsenceSpanView> findActiveSpansForEmployees(@Param("employeeIds") Collection<UUID> employeeIds,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
+
+    @Query(value = "SELECT a.* FROM absence_requests a WHERE a.employee_id = :employeeId " +
+                   "AND a.status <> 'rejected' AND a.period && daterange(:from, :to, '[]') " +
+                   "ORDER BY a.start_date", nativeQuery = true)
+    List<AbsenceRequest> findOverlapping(@Param("employeeId") UUID employeeId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+}
@@ -0,0 +1,11 @@
+package com.hr_manager.hr_service.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface AbsenceSpanView {
+    UUID getEmployeeId();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+    String getStatus();
+}
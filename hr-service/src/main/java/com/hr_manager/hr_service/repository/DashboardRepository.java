@@ -0,0 +1,84 @@
+package com.hr_manager.hr_service.repository;
+
+import com.hr_manager.hr_service.dto.ManagerDashboardResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class DashboardRepository {
+
+    // All scalar figures in one round trip
+    private static final String TOTALS_SQL = """
+        SELECT (SELECT COUNT(*) FROM absence_requests WHERE status = 'pending') AS pending,
+               (SELECT MIN(created_at) FROM absence_requests WHERE status = 'pending') AS oldest_pending,
+               (SELECT COUNT(*) FROM feedback WHERE created_at >= ?) AS feedback_7d,
+               (SELECT COUNT(*) FROM feedback WHERE created_at >= ?) AS feedback_30d
+        """;
+
+    private static final String HEADCOUNT_SQL = """
+        SELECT COALESCE(department, 'Unassigned') AS department, COUNT(*) AS headcount
+          FROM users
+         GROUP BY COALESCE(department, 'Unassigned')
+         ORDER BY department
+        """;
+
+    private static final String UPCOMING_SQL = """
+        SELECT a.id, a.employee_id, u.name, u.department, a.start_date, a.end_date, a.status
+          FROM absence_requests a
+          JOIN users u ON u.id = a.employee_id
+         WHERE a.status <> 'rejected' AND a.start_date <= ? AND a.end_date >= ?
+         ORDER BY a.start_date, a.id
+         LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Totals(int pendingAbsences, LocalDateTime oldestPendingCreatedAt,
+                         int feedbackLast7Days, int feedbackLast30Days) {
+    }
+
+    public Totals findTotals(LocalDateTime now) {
+        return jdbcTemplate.queryForObject(TOTALS_SQL,
+            (resultSet, rowNum) -> {
+                Timestamp oldest = resultSet.getTimestamp(2);
+                return new Totals(
+                    resultSet.getInt(1),
+                    oldest == null ? null : oldest.toLocalDateTime(),
+                    resultSet.getInt(3),
+                    resultSet.getInt(4)
+                );
+            },
+            Timestamp.valueOf(now.minusDays(7)),
+            Timestamp.valueOf(now.minusDays(30)));
+    }
+
+    public List<ManagerDashboardResponse.DepartmentHeadcount> findHeadcounts() {
+        return jdbcTemplate.query(HEADCOUNT_SQL,
+            (resultSet, rowNum) -> new ManagerDashboardResponse.DepartmentHeadcount(
+                resultSet.getString(1),
+                resultSet.getInt(2)
+            ));
+    }
+
+    public List<ManagerDashboardResponse.UpcomingAbsence> findUpcomingAbsences(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(UPCOMING_SQL,
+            (resultSet, rowNum) -> new ManagerDashboardResponse.UpcomingAbsence(
+                resultSet.getObject(1, UUID.class).toString(),
+                resultSet.getObject(2, UUID.class).toString(),
+                resultSet.getString(3),
+                resultSet.getString(4),
+                resultSet.getObject(5, LocalDate.class),
+                resultSet.getObject(6, LocalDate.class),
+                resultSet.getString(7)
+            ),
+            to, from, limit);
+    }
+}
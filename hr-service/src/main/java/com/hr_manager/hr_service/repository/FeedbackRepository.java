@@ -1,14 +1,80 @@
 package com.hr_manager.hr_service.repository;
 
 import com.hr_manager.hr_service.entity.Feedback;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, UUID> {
     List<Feedback> findByProfileIdOrderByCreatedAtDesc(UUID profileId);
-}
 
+    @Query("SELECT COUNT(f) AS rowCount, MAX(f.updatedAt) AS lastChanged, MAX(u.updatedAt) AS lastUserChange " +
+           "FROM Feedback f JOIN User u ON u.id = f.authorId WHERE f.profileId = :profileId")
+    VersionView findVersionByProfileId(@Param("profileId") UUID profileId);
+
+    @Query(value = "SELECT f.id AS id, f.profile_id AS \"profileId\", f.author_id AS \"authorId\", " +
+                   "f.content AS content, f.is_polished AS \"isPolished\", f.polish_status AS \"polishStatus\", f.created_at AS \"createdAt\", " +
+                   "ts_rank(f.content_tsv, q) AS rank " +
+                   "FROM feedback f, websearch_to_tsquery('english', :query) q " +
+                   "WHERE f.content_tsv @@ q " +
+                   "ORDER BY rank DESC, f.id DESC LIMIT :limit", nativeQuery = true)
+    List<FeedbackSearchView> searchFirstPage(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT f.id AS id, f.profile_id AS \"profileId\", f.author_id AS \"authorId\", " +
+                   "f.content AS content, f.is_polished AS \"isPolished\", f.polish_status AS \"polishStatus\", f.created_at AS \"createdAt\", " +
+                   "ts_rank(f.content_tsv, q) AS rank " +
+                   "FROM feedback f, websearch_to_tsquery('english', :query) q " +
+                   "WHERE f.content_tsv @@ q" +
+                   ") ranked " +
+                   "WHERE (ranked.rank, ranked.id) < (CAST(:afterRank AS real), :afterId) " +
+                   "ORDER BY ranked.rank DESC, ranked.id DESC LIMIT :limit", nativeQuery = true)
+    List<FeedbackSearchView> searchAfter(@Param("query") String query,
+                                         @Param("afterRank") float afterRank,
+                                         @Param("afterId") UUID afterId,
+                                         @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Feedback f SET f.content = :content, f.isPolished = true, f.polishStatus = 'done', " +
+           "f.polishAttempts = f.polishAttempts + 1, f.updatedAt = LOCAL_DATETIME " +
+           "WHERE f.id = :id AND f.polishStatus = 'pending'")
+    int markPolished(@Param("id") UUID id, @Param("content") String content);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Feedback f SET f.polishStatus = 'failed', f.polishAttempts = f.polishAttempts + 1, " +
+           "f.updatedAt = LOCAL_DATETIME WHERE f.id = :id AND f.polishStatus = 'pending'")
+    int markPolishFailed(@Param("id") UUID id);
+
+    // Like markPolishFailed, but the call was never sent upstream so no attempt is used up
+    @Transactional
+    @Modifying
+    @Query("UPDATE Feedback f SET f.polishStatus = 'failed', f.updatedAt = LOCAL_DATETIME " +
+           "WHERE f.id = :id AND f.polishStatus = 'pending'")
+    int markPolishDeferred(@Param("id") UUID id);
+
+    // Claims a row found by findIdsForPolishRetry; 0 when it was polished, claimed elsewhere or touched since
+    @Transactional
+    @Modifying
+    @Query("UPDATE Feedback f SET f.polishStatus = 'pending', f.updatedAt = LOCAL_DATETIME " +
+           "WHERE f.id = :id AND (f.polishStatus = 'failed' OR " +
+           "(f.polishStatus = 'pending' AND f.updatedAt < :stalePendingBefore))")
+    int claimPolishRetry(@Param("id") UUID id, @Param("stalePendingBefore") LocalDateTime stalePendingBefore);
+
+    @Query("SELECT f.id FROM Feedback f WHERE f.polishAttempts < :maxAttempts AND " +
+           "(f.polishStatus = 'failed' OR (f.polishStatus = 'pending' AND f.updatedAt < :stalePendingBefore)) " +
+           "ORDER BY f.updatedAt")
+    List<UUID> findIdsForPolishRetry(@Param("maxAttempts") int maxAttempts,
+                                     @Param("stalePendingBefore") LocalDateTime stalePendingBefore,
+                                     Limit limit);
+}
@@ -0,0 +1,15 @@
+package com.hr_manager.hr_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface FeedbackSearchView {
+    UUID getId();
+    UUID getProfileId();
+    UUID getAuthorId();
+    String getContent();
+    Boolean getIsPolished();
+    String getPolishStatus();
+    LocalDateTime getCreatedAt();
+    Float getRank();
+}
@@ -0,0 +1,65 @@
+package com.hr_manager.hr_service.repository;
+
+import com.hr_manager.hr_service.entity.LeaveBalance;
+import com.hr_manager.hr_service.entity.LeaveBalanceId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, LeaveBalanceId> {
+
+    // Row locks are taken in key order, the same order recordTransitions updates rows in
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM LeaveBalance b WHERE b.employeeId IN :employeeIds " +
+           "AND b.year BETWEEN :fromYear AND :toYear ORDER BY b.employeeId, b.year")
+    List<LeaveBalance> lockForReconcile(@Param("employeeIds") Collection<UUID> employeeIds,
+                                        @Param("fromYear") int fromYear,
+                                        @Param("toYear") int toYear);
+
+    @Query("SELECT b FROM LeaveBalance b, User u WHERE u.id = b.employeeId AND b.year = :year " +
+           "AND (:department IS NULL OR u.department = :department) ORDER BY u.name")
+    List<LeaveBalance> findByYearAndDepartment(@Param("year") int year, @Param("department") String department);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE LeaveBalance b SET b.approvedDays = b.approvedDays + :approvedDelta, " +
+           "b.pendingDays = b.pendingDays + :pendingDelta, b.updatedAt = LOCAL_DATETIME " +
+           "WHERE b.employeeId = :employeeId AND b.year = :year")
+    int addDays(@Param("employeeId") UUID employeeId,
+                @Param("year") int year,
+                @Param("approvedDelta") int approvedDelta,
+                @Param("pendingDelta") int pendingDelta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE LeaveBalance b SET b.approvedDays = :approvedDays, b.pendingDays = :pendingDays, " +
+           "b.updatedAt = LOCAL_DATETIME WHERE b.employeeId = :employeeId AND b.year = :year")
+    int setDays(@Param("employeeId") UUID employeeId,
+                @Param("year") int year,
+                @Param("approvedDays") int approvedDays,
+                @Param("pendingDays") int pendingDays);
+
+    // Inserts a recounted row; if a concurrent transaction created it first, adds this one's delta instead
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO leave_balances (employee_id, balance_year, entitlement_days, approved_days, " +
+                   "pending_days, updated_at) " +
+                   "VALUES (:employeeId, :year, :entitlementDays, :approvedDays, :pendingDays, LOCALTIMESTAMP) " +
+                   "ON CONFLICT (employee_id, balance_year) DO UPDATE SET " +
+                   "approved_days = leave_balances.approved_days + :approvedDelta, " +
+                   "pending_days = leave_balances.pending_days + :pendingDelta, " +
+                   "updated_at = LOCALTIMESTAMP", nativeQuery = true)
+    int upsertDays(@Param("employeeId") UUID employeeId,
+                   @Param("year") int year,
+                   @Param("entitlementDays") int entitlementDays,
+                   @Param("approvedDays") int approvedDays,
+                   @Param("pendingDays") int pendingDays,
+                   @Param("approvedDelta") int approvedDelta,
+                   @Param("pendingDelta") int pendingDelta);
+}
@@ -0,0 +1,11 @@
+package com.hr_manager.hr_service.repository;
+
+import java.util.UUID;
+
+public interface PublicProfileView {
+    UUID getId();
+    String getName();
+    String getEmail();
+    String getDepartment();
+    String getPosition();
+}
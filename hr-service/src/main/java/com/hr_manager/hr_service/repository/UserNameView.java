@@ -0,0 +1,8 @@
+package com.hr_manager.hr_service.repository;
+
+import java.util.UUID;
+
+public interface UserNameView {
+    UUID getId();
+    String getName();
+}
@@ -1,14 +1,56 @@
 package com.hr_manager.hr_service.repository;
 
 import com.hr_manager.hr_service.entity.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
-}
 
+    @Query("SELECT u.id AS id, u.name AS name FROM User u WHERE u.id IN :ids")
+    List<UserNameView> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email, u.department AS department, " +
+           "u.position AS position FROM User u ORDER BY u.name, u.id")
+    List<PublicProfileView> findAllPublicProfiles();
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Limit limit);
+
+    @Query("SELECT u.id AS id, u.department AS department FROM User u")
+    List<UserDepartmentView> findAllDepartments();
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email, u.department AS department, " +
+           "u.position AS position FROM User u ORDER BY u.name, u.id")
+    Stream<PublicProfileView> streamAllPublicProfiles();
+
+    @Query(value = "SELECT id, name, email, department, position FROM users " +
+                   "ORDER BY name, id LIMIT :limit", nativeQuery = true)
+    List<PublicProfileView> findPublicProfilesFirstPage(@Param("limit") int limit);
+
+    @Query(value = "SELECT id, name, email, department, position FROM users " +
+                   "WHERE (name, id) > (:name, :id) " +
+                   "ORDER BY name, id LIMIT :limit", nativeQuery = true)
+    List<PublicProfileView> findPublicProfilesAfter(@Param("name") String name,
+                                                    @Param("id") UUID id,
+                                                    @Param("limit") int limit);
+}
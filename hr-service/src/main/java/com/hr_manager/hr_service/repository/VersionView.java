@@ -0,0 +1,9 @@
+package com.hr_manager.hr_service.repository;
+
+import java.time.LocalDateTime;
+
+public interface VersionView {
+    long getRowCount();
+    LocalDateTime getLastChanged();
+    LocalDateTime getLastUserChange();
+}
@@ -1,6 +1,6 @@
 package com.hr_manager.hr_service.security;
 
-import lombok.Data;
+import lombok.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -8,12 +8,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-@Data
+// Immutable, so one instance can be cached and shared by every request presenting the same token
+@Value
 public class UserPrincipal {
-    private UUID userId;
-    private String email;
-    private String role;
-    private String name;
+    UUID userId;
+    String email;
+    String role;
+    String name;
 
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
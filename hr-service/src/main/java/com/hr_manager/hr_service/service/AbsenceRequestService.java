@@ -1,20 +1,31 @@
 package com.hr_manager.hr_service.service;
 
 import com.hr_manager.hr_service.dto.AbsenceRequestResponse;
+import com.hr_manager.hr_service.dto.BulkAbsenceDecisionRequest;
+import com.hr_manager.hr_service.dto.BulkAbsenceDecisionResponse;
 import com.hr_manager.hr_service.dto.CreateAbsenceRequestRequest;
 import com.hr_manager.hr_service.entity.AbsenceRequest;
-import com.hr_manager.hr_service.entity.User;
+import com.hr_manager.hr_service.event.AbsenceStatusChangedEvent;
 import com.hr_manager.hr_service.exception.BadRequestException;
+import com.hr_manager.hr_service.exception.ConflictException;
 import com.hr_manager.hr_service.exception.ForbiddenException;
 import com.hr_manager.hr_service.exception.ResourceNotFoundException;
+import com.hr_manager.hr_service.repository.AbsenceDecisionRepository;
 import com.hr_manager.hr_service.repository.AbsenceRequestRepository;
-import com.hr_manager.hr_service.repository.UserRepository;
+import com.hr_manager.hr_service.repository.VersionView;
 import com.hr_manager.hr_service.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -22,17 +33,42 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AbsenceRequestService {
 
+    // The ledger writes a row per year a request touches, and per-request reads and reconciles walk its span
+    static final int MAX_SPAN_DAYS = 366;
+
     private final AbsenceRequestRepository absenceRequestRepository;
-    private final UserRepository userRepository;
+    private final AbsenceDecisionRepository absenceDecisionRepository;
+    private final UserNameResolver userNameResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamCoverageService teamCoverageService;
+    private final LeaveBalanceService leaveBalanceService;
+    private final WorkingDayCalendar workingDayCalendar;
 
     @Transactional(readOnly = true)
     public List<AbsenceRequestResponse> getMyAbsenceRequests(UserPrincipal principal) {
         List<AbsenceRequest> requests = absenceRequestRepository
             .findByEmployeeIdOrderByCreatedAtDesc(principal.getUserId());
 
-        return requests.stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return mapToResponses(requests);
+    }
+
+    @Transactional(readOnly = true)
+    public String getMyAbsenceRequestsVersion(UserPrincipal principal) {
+        VersionView version = absenceRequestRepository.findVersionByEmployeeId(principal.getUserId());
+        // Pending rows carry a coverage warning that changes with colleagues' absences, not our rows
+        return VersionTags.of("absences", principal.getUserId(), version.getRowCount(),
+            version.getLastChanged(), version.getLastUserChange(),
+            teamCoverageService.coverageVersion(principal.getUserId()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AbsenceRequestResponse> getMyOverlappingAbsenceRequests(LocalDate from, LocalDate to,
+                                                                        UserPrincipal principal) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("End date cannot be before start date");
+        }
+
+        return mapToResponses(absenceRequestRepository.findOverlapping(principal.getUserId(), from, to));
     }
 
     @Transactional(readOnly = true)
@@ -44,9 +80,7 @@ public class AbsenceRequestService {
         List<AbsenceRequest> requests = absenceRequestRepository
             .findByStatusOrderByCreatedAtAsc("pending");
 
-        return requests.stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return mapToResponses(requests);
     }
 
     @Transactional
@@ -55,6 +89,9 @@ public class AbsenceRequestService {
         if (request.getEndDate().isBefore(request.getStartDate())) {
             throw new BadRequestException("End date cannot be before start date");
         }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) >= MAX_SPAN_DAYS) {
+            throw new BadRequestException("Absence request cannot exceed " + MAX_SPAN_DAYS + " days");
+        }
 
         AbsenceRequest absenceRequest = new AbsenceRequest();
         absenceRequest.setEmployeeId(principal.getUserId());
@@ -63,9 +100,14 @@ public class AbsenceRequestService {
         absenceRequest.setReason(request.getReason());
         absenceRequest.setStatus("pending");
 
-        AbsenceRequest saved = absenceRequestRepository.save(absenceRequest);
+        // Flush so an overlap rejected by the exclusion constraint surfaces here as a 409
+        AbsenceRequest saved = absenceRequestRepository.saveAndFlush(absenceRequest);
+        leaveBalanceService.recordTransition(saved.getEmployeeId(), saved.getStartDate(), saved.getEndDate(),
+            null, saved.getStatus());
+        eventPublisher.publishEvent(new AbsenceStatusChangedEvent(saved.getId(), saved.getEmployeeId(),
+            saved.getStartDate(), saved.getEndDate(), null, saved.getStatus()));
 
-        return mapToResponse(saved);
+        return mapToResponse(saved, userNameResolver.resolveNames(Set.of(saved.getEmployeeId())));
     }
 
     @Transactional
@@ -74,11 +116,7 @@ public class AbsenceRequestService {
             throw new ForbiddenException("Not authorized - manager role required");
         }
 
-        AbsenceRequest request = absenceRequestRepository.findById(requestId)
-            .orElseThrow(() -> new ResourceNotFoundException("Absence request not found"));
-
-        request.setStatus("approved");
-        absenceRequestRepository.save(request);
+        decidePending(requestId, "approved");
     }
 
     @Transactional
@@ -87,27 +125,83 @@ public class AbsenceRequestService {
             throw new ForbiddenException("Not authorized - manager role required");
         }
 
-        AbsenceRequest request = absenceRequestRepository.findById(requestId)
-            .orElseThrow(() -> new ResourceNotFoundException("Absence request not found"));
+        decidePending(requestId, "rejected");
+    }
 
-        request.setStatus("rejected");
-        absenceRequestRepository.save(request);
+    private void decidePending(UUID requestId, String status) {
+        // Single conditional UPDATE: only one decision can move a request out of pending,
+        // and it returns the span the ledger and the event need
+        Optional<AbsenceDecisionRepository.Outcome> decided = absenceDecisionRepository.decideOne(requestId, status);
+        if (decided.isPresent()) {
+            AbsenceDecisionRepository.Outcome outcome = decided.get();
+            leaveBalanceService.recordTransition(outcome.employeeId(), outcome.startDate(),
+                outcome.endDate(), "pending", status);
+            eventPublisher.publishEvent(new AbsenceStatusChangedEvent(requestId, outcome.employeeId(),
+                outcome.startDate(), outcome.endDate(), "pending", status));
+            return;
+        }
+        if (!absenceRequestRepository.existsById(requestId)) {
+            throw new ResourceNotFoundException("Absence request not found");
+        }
+        throw new ConflictException("Absence request has already been decided");
     }
 
-    private AbsenceRequestResponse mapToResponse(AbsenceRequest request) {
-        User employee = userRepository.findById(request.getEmployeeId())
-            .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+    @Transactional
+    public BulkAbsenceDecisionResponse decideAbsenceRequests(BulkAbsenceDecisionRequest request, UserPrincipal principal) {
+        if (!principal.isManager()) {
+            throw new ForbiddenException("Not authorized - manager role required");
+        }
+
+        List<AbsenceDecisionRepository.Outcome> outcomes =
+            absenceDecisionRepository.decidePending(request.getIds(), request.getStatus());
+
+        int updated = 0;
+        List<BulkAbsenceDecisionResponse.Result> results = new ArrayList<>(outcomes.size());
+        List<LeaveBalanceService.Transition> transitions = new ArrayList<>();
+        for (AbsenceDecisionRepository.Outcome outcome : outcomes) {
+            if (outcome.isUpdated()) {
+                updated++;
+                transitions.add(new LeaveBalanceService.Transition(outcome.employeeId(),
+                    outcome.startDate(), outcome.endDate(), "pending", request.getStatus()));
+                eventPublisher.publishEvent(new AbsenceStatusChangedEvent(outcome.id(), outcome.employeeId(),
+                    outcome.startDate(), outcome.endDate(), "pending", request.getStatus()));
+            }
+            results.add(new BulkAbsenceDecisionResponse.Result(outcome.id().toString(), outcome.outcome()));
+        }
+        leaveBalanceService.recordTransitions(transitions);
+
+        return new BulkAbsenceDecisionResponse(request.getStatus(), updated, results);
+    }
+
+    private List<AbsenceRequestResponse> mapToResponses(List<AbsenceRequest> requests) {
+        // Load all employee names in one query instead of one per request row
+        Map<UUID, String> employeeNames = userNameResolver.resolveNames(requests, AbsenceRequest::getEmployeeId);
+
+        return requests.stream()
+            .map(request -> mapToResponse(request, employeeNames))
+            .collect(Collectors.toList());
+    }
+
+    private AbsenceRequestResponse mapToResponse(AbsenceRequest request, Map<UUID, String> employeeNames) {
+        String employeeName = UserNameResolver.requireName(employeeNames, request.getEmployeeId(), "Employee not found");
 
         AbsenceRequestResponse response = new AbsenceRequestResponse();
         response.setId(request.getId().toString());
         response.setEmployeeId(request.getEmployeeId().toString());
-        response.setEmployeeName(employee.getName());
+        response.setEmployeeName(employeeName);
         response.setStartDate(request.getStartDate());
         response.setEndDate(request.getEndDate());
+        response.setWorkingDays(workingDayCalendar.workingDaysBetween(request.getStartDate(), request.getEndDate()));
         response.setReason(request.getReason());
         response.setStatus(request.getStatus());
         response.setCreatedAt(request.getCreatedAt());
 
+        // Only undecided requests need the heads-up about who else is out
+        if ("pending".equals(request.getStatus())) {
+            response.setCoverageWarning(teamCoverageService.coverageWarning(
+                request.getEmployeeId(), request.getStartDate(), request.getEndDate()));
+        }
+
         return response;
     }
 }
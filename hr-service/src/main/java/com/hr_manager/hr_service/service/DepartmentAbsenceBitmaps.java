@@ -0,0 +1,132 @@
+package com.hr_manager.hr_service.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+// Per-employee day bitmaps for one department: one long[6] (366 bits) per
+// employee and year, kept separately for approved and pending absences.
+// Not thread-safe; TeamCoverageService guards access.
+public final class DepartmentAbsenceBitmaps {
+
+    private static final int WORDS_PER_YEAR = 6;
+
+    private final Map<Integer, Map<UUID, long[]>> approved = new HashMap<>();
+    private final Map<Integer, Map<UUID, long[]>> pending = new HashMap<>();
+
+    public void set(UUID employeeId, LocalDate from, LocalDate to, String status, boolean value) {
+        Map<Integer, Map<UUID, long[]>> byYear = bitmapsFor(status);
+        if (byYear == null) {
+            return;
+        }
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            Map<UUID, long[]> employees = byYear.computeIfAbsent(year, key -> new HashMap<>());
+            long[] bits = value
+                ? employees.computeIfAbsent(employeeId, key -> new long[WORDS_PER_YEAR])
+                : employees.get(employeeId);
+            if (bits != null) {
+                setRange(bits, firstDayIndex(from, year), lastDayIndex(to, year), value);
+            }
+        }
+    }
+
+    // Number of employees (other than excludeEmployeeId) out on each day of the range
+    public int[] countPerDay(LocalDate from, LocalDate to, String status, UUID excludeEmployeeId) {
+        int[] counts = new int[(int) ChronoUnit.DAYS.between(from, to) + 1];
+        Map<Integer, Map<UUID, long[]>> byYear = bitmapsFor(status);
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            Map<UUID, long[]> employees = byYear.get(year);
+            if (employees == null) {
+                continue;
+            }
+            int firstIndex = firstDayIndex(from, year);
+            int lastIndex = lastDayIndex(to, year);
+            int offset = (int) ChronoUnit.DAYS.between(from, LocalDate.ofYearDay(year, 1));
+            for (Map.Entry<UUID, long[]> employee : employees.entrySet()) {
+                if (employee.getKey().equals(excludeEmployeeId)) {
+                    continue;
+                }
+                forEachSetBit(employee.getValue(), firstIndex, lastIndex, day -> counts[offset + day]++);
+            }
+        }
+        return counts;
+    }
+
+    // Days each employee is out within the range; employees with no days are omitted
+    public Map<UUID, Integer> daysPerEmployee(LocalDate from, LocalDate to, String status) {
+        Map<UUID, Integer> days = new HashMap<>();
+        Map<Integer, Map<UUID, long[]>> byYear = bitmapsFor(status);
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            Map<UUID, long[]> employees = byYear.get(year);
+            if (employees == null) {
+                continue;
+            }
+            int firstIndex = firstDayIndex(from, year);
+            int lastIndex = lastDayIndex(to, year);
+            for (Map.Entry<UUID, long[]> employee : employees.entrySet()) {
+                int count = countRange(employee.getValue(), firstIndex, lastIndex);
+                if (count > 0) {
+                    days.merge(employee.getKey(), count, Integer::sum);
+                }
+            }
+        }
+        return days;
+    }
+
+    private Map<Integer, Map<UUID, long[]>> bitmapsFor(String status) {
+        if ("approved".equals(status)) {
+            return approved;
+        }
+        if ("pending".equals(status)) {
+            return pending;
+        }
+        return null;
+    }
+
+    private static int firstDayIndex(LocalDate from, int year) {
+        return from.getYear() == year ? from.getDayOfYear() - 1 : 0;
+    }
+
+    private static int lastDayIndex(LocalDate to, int year) {
+        return to.getYear() == year ? to.getDayOfYear() - 1 : LocalDate.ofYearDay(year, 1).lengthOfYear() - 1;
+    }
+
+    private static long rangeMask(int word, int firstIndex, int lastIndex) {
+        int wordStart = word << 6;
+        int lo = Math.max(firstIndex - wordStart, 0);
+        int hi = Math.min(lastIndex - wordStart, 63);
+        if (lo > hi) {
+            return 0L;
+        }
+        long upTo = hi == 63 ? -1L : (1L << (hi + 1)) - 1;
+        return upTo & (-1L << lo);
+    }
+
+    private static void setRange(long[] bits, int firstIndex, int lastIndex, boolean value) {
+        for (int word = firstIndex >> 6; word <= lastIndex >> 6; word++) {
+            long mask = rangeMask(word, firstIndex, lastIndex);
+            bits[word] = value ? bits[word] | mask : bits[word] & ~mask;
+        }
+    }
+
+    private static int countRange(long[] bits, int firstIndex, int lastIndex) {
+        int count = 0;
+        for (int word = firstIndex >> 6; word <= lastIndex >> 6; word++) {
+            count += Long.bitCount(bits[word] & rangeMask(word, firstIndex, lastIndex));
+        }
+        return count;
+    }
+
+    private static void forEachSetBit(long[] bits, int firstIndex, int lastIndex, IntConsumer action) {
+        for (int word = firstIndex >> 6; word <= lastIndex >> 6; word++) {
+            long remaining = bits[word] & rangeMask(word, firstIndex, lastIndex);
+            while (remaining != 0) {
+                action.accept((word << 6) + Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.client.ResilientAiServiceClient;
+import com.hr_manager.hr_service.config.AsyncConfig;
+import com.hr_manager.hr_service.dto.PolishRequest;
+import com.hr_manager.hr_service.dto.PolishResponse;
+import com.hr_manager.hr_service.entity.Feedback;
+import com.hr_manager.hr_service.event.FeedbackPolishRequestedEvent;
+import com.hr_manager.hr_service.repository.FeedbackRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class FeedbackPolishingService {
+
+    private final FeedbackRepository feedbackRepository;
+    private final ResilientAiServiceClient aiServiceClient;
+    private final ThreadPoolTaskExecutor polishExecutor;
+    private final TransactionTemplate requiresNew;
+
+    @Value("${feedback.polish.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${feedback.polish.stale-pending-after:PT10M}")
+    private Duration stalePendingAfter;
+
+    @Value("${feedback.polish.retry-batch-size:50}")
+    private int retryBatchSize;
+
+    public FeedbackPolishingService(FeedbackRepository feedbackRepository,
+                                    ResilientAiServiceClient aiServiceClient,
+                                    @Qualifier(AsyncConfig.FEEDBACK_POLISH_EXECUTOR) ThreadPoolTaskExecutor polishExecutor,
+                                    PlatformTransactionManager transactionManager) {
+        this.feedbackRepository = feedbackRepository;
+        this.aiServiceClient = aiServiceClient;
+        this.polishExecutor = polishExecutor;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener
+    public void onPolishRequested(FeedbackPolishRequestedEvent event) {
+        submit(event.getFeedbackId());
+    }
+
+    @Scheduled(fixedDelayString = "${feedback.polish.retry-interval:PT1M}")
+    public void retryFailed() {
+        if (aiServiceClient.isOpen()) {
+            log.debug("AI service circuit breaker is open, skipping polish retries");
+            return;
+        }
+
+        // Failed rows, plus pending rows whose task was lost (e.g. restart mid-flight)
+        LocalDateTime stalePendingBefore = LocalDateTime.now().minus(stalePendingAfter);
+        List<UUID> ids = feedbackRepository.findIdsForPolishRetry(
+            maxAttempts, stalePendingBefore, Limit.of(retryBatchSize));
+
+        int resubmitted = 0;
+        for (UUID id : ids) {
+            // The claim bumps updated_at, so a slow but still queued task isn't picked up again next sweep,
+            // and only one instance resubmits a row when several sweep at once
+            if (feedbackRepository.claimPolishRetry(id, stalePendingBefore) == 1) {
+                submit(id);
+                resubmitted++;
+            }
+        }
+        if (resubmitted > 0) {
+            log.info("Resubmitted {} feedback entries for AI polishing", resubmitted);
+        }
+    }
+
+    private void submit(UUID feedbackId) {
+        try {
+            polishExecutor.execute(() -> polish(feedbackId));
+        } catch (TaskRejectedException e) {
+            log.warn("Polish queue full, feedback {} left for retry", feedbackId);
+            // Also reached after the creating transaction has committed, which can't take another write,
+            // so this runs in its own. Nothing was sent upstream, so no attempt is used up
+            requiresNew.executeWithoutResult(status -> feedbackRepository.markPolishDeferred(feedbackId));
+        }
+    }
+
+    private void polish(UUID feedbackId) {
+        Feedback feedback = feedbackRepository.findById(feedbackId).orElse(null);
+        if (feedback == null || !"pending".equals(feedback.getPolishStatus())) {
+            return;
+        }
+
+        // The upstream call runs outside any transaction, so no DB connection is held while waiting
+        try {
+            PolishRequest polishRequest = new PolishRequest(feedback.getContent(), "employee feedback");
+            Optional<PolishResponse> polishResponse = aiServiceClient.polishText(polishRequest);
+            if (polishResponse.isEmpty()) {
+                // Breaker open or bulkhead full: keep the unpolished text and leave it for the retry sweeper
+                log.warn("AI service unavailable, feedback {} stored unpolished", feedbackId);
+                feedbackRepository.markPolishDeferred(feedbackId);
+                return;
+            }
+            feedbackRepository.markPolished(feedbackId, polishResponse.get().getPolishedText());
+            log.info("Feedback {} polished successfully using AI", feedbackId);
+        } catch (RuntimeException e) {
+            log.error("AI service error while polishing feedback {}: {}", feedbackId, e.getMessage());
+            feedbackRepository.markPolishFailed(feedbackId);
+        }
+    }
+}
@@ -1,21 +1,25 @@
 package com.hr_manager.hr_service.service;
 
-import com.hr_manager.hr_service.client.AiServiceClient;
 import com.hr_manager.hr_service.dto.*;
 import com.hr_manager.hr_service.entity.Feedback;
-import com.hr_manager.hr_service.entity.User;
+import com.hr_manager.hr_service.event.FeedbackPolishRequestedEvent;
+import com.hr_manager.hr_service.exception.BadRequestException;
 import com.hr_manager.hr_service.exception.ForbiddenException;
 import com.hr_manager.hr_service.exception.ResourceNotFoundException;
 import com.hr_manager.hr_service.repository.FeedbackRepository;
-import com.hr_manager.hr_service.repository.UserRepository;
+import com.hr_manager.hr_service.repository.FeedbackSearchView;
+import com.hr_manager.hr_service.repository.VersionView;
 import com.hr_manager.hr_service.security.UserPrincipal;
-import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,22 +29,39 @@ import java.util.stream.Collectors;
 public class FeedbackService {
 
     private final FeedbackRepository feedbackRepository;
-    private final UserRepository userRepository;
-    private final AiServiceClient aiServiceClient;
+    private final UserLookupService userLookupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserNameResolver userNameResolver;
+
+    @Value("${feedback.search.default-page-size:20}")
+    private int searchDefaultPageSize;
+
+    @Value("${feedback.search.max-page-size:100}")
+    private int searchMaxPageSize;
 
     @Transactional(readOnly = true)
     public List<FeedbackResponse> getFeedbackForProfile(UUID profileId) {
         // Verify profile exists
-        userRepository.findById(profileId)
+        userLookupService.findById(profileId)
             .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
 
         List<Feedback> feedbackList = feedbackRepository.findByProfileIdOrderByCreatedAtDesc(profileId);
 
+        // Load all author names in one query instead of one per feedback row
+        Map<UUID, String> authorNames = userNameResolver.resolveNames(feedbackList, Feedback::getAuthorId);
+
         return feedbackList.stream()
-            .map(this::mapToResponse)
+            .map(feedback -> mapToResponse(feedback, authorNames))
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public String getFeedbackVersion(UUID profileId) {
+        VersionView version = feedbackRepository.findVersionByProfileId(profileId);
+        return VersionTags.of("feedback", profileId, version.getRowCount(),
+            version.getLastChanged(), version.getLastUserChange());
+    }
+
     @Transactional
     public FeedbackResponse createFeedback(UUID profileId, CreateFeedbackRequest request, UserPrincipal principal) {
         // Cannot leave feedback on own profile
@@ -49,49 +70,109 @@ public class FeedbackService {
         }
 
         // Verify profile exists
-        User profileUser = userRepository.findById(profileId)
+        userLookupService.findById(profileId)
             .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
 
-        String content = request.getContent();
-        boolean isPolished = false;
-
-        // Polish with AI if requested
-        if (Boolean.TRUE.equals(request.getPolishWithAI())) {
-            try {
-                PolishRequest polishRequest = new PolishRequest(content, "employee feedback");
-                PolishResponse polishResponse = aiServiceClient.polishText(polishRequest);
-                content = polishResponse.getPolishedText();
-                isPolished = true;
-                log.info("Feedback polished successfully using AI");
-            } catch (FeignException e) {
-                log.error("AI service error while polishing feedback: {}", e.getMessage());
-                throw new RuntimeException("AI service is unavailable. Please try again later.");
-            }
-        }
+        boolean polishRequested = Boolean.TRUE.equals(request.getPolishWithAI());
 
         Feedback feedback = new Feedback();
         feedback.setProfileId(profileId);
         feedback.setAuthorId(principal.getUserId());
-        feedback.setContent(content);
-        feedback.setIsPolished(isPolished);
+        feedback.setContent(request.getContent());
+        feedback.setIsPolished(false);
+        feedback.setPolishStatus(polishRequested ? "pending" : "none");
 
         Feedback savedFeedback = feedbackRepository.save(feedback);
 
-        return mapToResponse(savedFeedback);
+        // Polishing happens in the background once this row is committed
+        if (polishRequested) {
+            eventPublisher.publishEvent(new FeedbackPolishRequestedEvent(savedFeedback.getId()));
+        }
+
+        return mapToResponse(savedFeedback, userNameResolver.resolveNames(Set.of(savedFeedback.getAuthorId())));
+    }
+
+    @Transactional(readOnly = true)
+    public FeedbackSearchPage searchFeedback(String query, String cursor, Integer size, UserPrincipal principal) {
+        if (!principal.isManager()) {
+            throw new ForbiddenException("Not authorized - manager role required");
+        }
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        int pageSize = size == null ? searchDefaultPageSize : size;
+        if (pageSize < 1 || pageSize > searchMaxPageSize) {
+            throw new BadRequestException("Page size must be between 1 and " + searchMaxPageSize);
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<FeedbackSearchView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = feedbackRepository.searchFirstPage(query, pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            float afterRank;
+            try {
+                afterRank = Float.intBitsToFloat(Integer.parseInt(after.sortKey()));
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            rows = feedbackRepository.searchAfter(query, afterRank, after.id(), pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<FeedbackSearchView> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            // Rank is carried as raw float bits so the next page compares exactly
+            FeedbackSearchView last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(String.valueOf(Float.floatToIntBits(last.getRank())), last.getId()).encode();
+        }
+
+        Map<UUID, String> authorNames = userNameResolver.resolveNames(page, FeedbackSearchView::getAuthorId);
+        List<FeedbackResponse> content = page.stream()
+            .map(row -> new FeedbackResponse(
+                row.getId().toString(),
+                row.getProfileId().toString(),
+                row.getAuthorId().toString(),
+                UserNameResolver.requireName(authorNames, row.getAuthorId(), "Author not found"),
+                row.getContent(),
+                row.getCreatedAt(),
+                row.getIsPolished(),
+                row.getPolishStatus()
+            ))
+            .collect(Collectors.toList());
+
+        return new FeedbackSearchPage(content, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public PolishStatusResponse getPolishStatus(UUID profileId, UUID feedbackId) {
+        Feedback feedback = feedbackRepository.findById(feedbackId)
+            .filter(found -> found.getProfileId().equals(profileId))
+            .orElseThrow(() -> new ResourceNotFoundException("Feedback not found"));
+
+        return new PolishStatusResponse(
+            feedback.getId().toString(),
+            feedback.getPolishStatus(),
+            feedback.getIsPolished(),
+            feedback.getPolishAttempts()
+        );
     }
 
-    private FeedbackResponse mapToResponse(Feedback feedback) {
-        User author = userRepository.findById(feedback.getAuthorId())
-            .orElseThrow(() -> new ResourceNotFoundException("Author not found"));
+    private FeedbackResponse mapToResponse(Feedback feedback, Map<UUID, String> authorNames) {
+        String authorName = UserNameResolver.requireName(authorNames, feedback.getAuthorId(), "Author not found");
 
         FeedbackResponse response = new FeedbackResponse();
         response.setId(feedback.getId().toString());
         response.setProfileId(feedback.getProfileId().toString());
         response.setAuthorId(feedback.getAuthorId().toString());
-        response.setAuthorName(author.getName());
+        response.setAuthorName(authorName);
         response.setContent(feedback.getContent());
         response.setCreatedAt(feedback.getCreatedAt());
         response.setIsPolished(feedback.getIsPolished());
+        response.setPolishStatus(feedback.getPolishStatus());
 
         return response;
     }
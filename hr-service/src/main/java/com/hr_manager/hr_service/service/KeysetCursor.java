@@ -0,0 +1,35 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque cursor for keyset pagination: the last row's sort key plus its id as tie-breaker
+public record KeysetCursor(String sortKey, UUID id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        String value = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new KeysetCursor(
+                decoded.substring(0, separator),
+                UUID.fromString(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.dto.LeaveBalanceReconciliationResponse;
+import com.hr_manager.hr_service.dto.LeaveBalanceResponse;
+import com.hr_manager.hr_service.entity.LeaveBalance;
+import com.hr_manager.hr_service.entity.LeaveBalanceId;
+import com.hr_manager.hr_service.exception.ForbiddenException;
+import com.hr_manager.hr_service.repository.AbsenceRequestRepository;
+import com.hr_manager.hr_service.repository.AbsenceSpanView;
+import com.hr_manager.hr_service.repository.LeaveBalanceRepository;
+import com.hr_manager.hr_service.repository.UserRepository;
+import com.hr_manager.hr_service.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaveBalanceService {
+
+    // Sorts before every other UUID, used as the keyset start for reconciliation
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    // Matches the database's unsigned uuid order, so ledger rows are locked in the same order as reconcile locks them
+    private static final Comparator<BalanceKey> LOCK_ORDER = Comparator
+        .comparing(BalanceKey::employeeId, (a, b) -> {
+            int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+            return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+        })
+        .thenComparingInt(BalanceKey::year);
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final AbsenceRequestRepository absenceRequestRepository;
+    private final UserRepository userRepository;
+    private final UserNameResolver userNameResolver;
+    private final PlatformTransactionManager transactionManager;
+    private final WorkingDayCalendar workingDayCalendar;
+
+    @Value("${absences.balance.entitlement-days:25}")
+    private int entitlementDays;
+
+    @Value("${absences.balance.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    public record Transition(UUID employeeId, LocalDate startDate, LocalDate endDate,
+                             String previousStatus, String newStatus) {
+    }
+
+    private record BalanceKey(UUID employeeId, int year) {
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(UUID employeeId, LocalDate startDate, LocalDate endDate,
+                                 String previousStatus, String newStatus) {
+        recordTransitions(List.of(new Transition(employeeId, startDate, endDate, previousStatus, newStatus)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(List<Transition> transitions) {
+        // Net the deltas per employee and year so a bulk decision costs one UPDATE per balance row
+        Map<BalanceKey, int[]> deltas = new HashMap<>();
+        for (Transition transition : transitions) {
+            addDeltas(deltas, transition.employeeId(), transition.startDate(), transition.endDate(),
+                transition.previousStatus(), -1);
+            addDeltas(deltas, transition.employeeId(), transition.startDate(), transition.endDate(),
+                transition.newStatus(), 1);
+        }
+
+        List<BalanceKey> keys = new ArrayList<>(deltas.keySet());
+        keys.sort(LOCK_ORDER);
+        for (BalanceKey key : keys) {
+            int[] delta = deltas.get(key);
+            if (delta[0] == 0 && delta[1] == 0) {
+                continue;
+            }
+            if (leaveBalanceRepository.addDays(key.employeeId(), key.year(), delta[0], delta[1]) == 0) {
+                // No ledger row yet: the status change is already flushed, so a recount includes it.
+                // If a concurrent first request inserts the row meanwhile, the upsert adds this delta to it
+                int[] days = countDays(key.employeeId(), key.year());
+                leaveBalanceRepository.upsertDays(key.employeeId(), key.year(), entitlementDays,
+                    days[0], days[1], delta[0], delta[1]);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public LeaveBalanceResponse getMyBalance(Integer year, UserPrincipal principal) {
+        int balanceYear = year != null ? year : LocalDate.now().getYear();
+        UUID employeeId = principal.getUserId();
+
+        LeaveBalance balance = leaveBalanceRepository.findById(new LeaveBalanceId(employeeId, balanceYear))
+            .orElseGet(() -> new LeaveBalance(employeeId, balanceYear, entitlementDays, 0, 0, null));
+        Map<UUID, String> names = userNameResolver.resolveNames(Set.of(employeeId));
+
+        return mapToResponse(balance, names);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaveBalanceResponse> getBalances(Integer year, String department, UserPrincipal principal) {
+        if (!principal.isManager()) {
+            throw new ForbiddenException("Not authorized - manager role required");
+        }
+
+        int balanceYear = year != null ? year : LocalDate.now().getYear();
+        List<LeaveBalance> balances = leaveBalanceRepository.findByYearAndDepartment(balanceYear, department);
+        Map<UUID, String> names = userNameResolver.resolveNames(balances, LeaveBalance::getEmployeeId);
+
+        return balances.stream()
+            .map(balance -> mapToResponse(balance, names))
+            .collect(Collectors.toList());
+    }
+
+    public LeaveBalanceReconciliationResponse reconcileBalances(UserPrincipal principal) {
+        if (!principal.isManager()) {
+            throw new ForbiddenException("Not authorized - manager role required");
+        }
+
+        return reconcile();
+    }
+
+    @Scheduled(cron = "${absences.balance.reconcile-cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    public LeaveBalanceReconciliationResponse reconcile() {
+        // Last year stays open for late decisions, next year for requests booked ahead
+        int currentYear = LocalDate.now().getYear();
+        LocalDate from = LocalDate.of(currentYear - 1, 1, 1);
+        LocalDate to = LocalDate.of(currentYear + 1, 12, 31);
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        int employees = 0;
+        int[] drift = new int[2]; // [corrected rows, created rows]
+        UUID after = FIRST_ID;
+
+        while (true) {
+            UUID batchAfter = after;
+            List<UUID> ids = template.execute(status -> {
+                List<UUID> batch = userRepository.findIdsAfter(batchAfter, Limit.of(reconcileBatchSize));
+                if (!batch.isEmpty()) {
+                    reconcileBatch(batch, from, to, drift);
+                }
+                return batch;
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            employees += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+
+        if (drift[0] > 0 || drift[1] > 0) {
+            log.warn("Leave balance reconciliation found drift: {} rows corrected, {} rows created across {} employees",
+                drift[0], drift[1], employees);
+        } else {
+            log.info("Leave balance reconciliation checked {} employees, no drift", employees);
+        }
+        return new LeaveBalanceReconciliationResponse(currentYear - 1, currentYear + 1, employees, drift[0], drift[1]);
+    }
+
+    private void reconcileBatch(List<UUID> employeeIds, LocalDate from, LocalDate to, int[] drift) {
+        // Lock the stored rows before counting: a transition that committed earlier is in the count,
+        // and one that commits later waits for this batch and then applies its delta to the corrected row
+        Map<BalanceKey, LeaveBalance> stored = new HashMap<>();
+        for (LeaveBalance balance : leaveBalanceRepository.lockForReconcile(employeeIds, from.getYear(), to.getYear())) {
+            stored.put(new BalanceKey(balance.getEmployeeId(), balance.getYear()), balance);
+        }
+
+        Map<BalanceKey, int[]> expected = new HashMap<>();
+        for (AbsenceSpanView span : absenceRequestRepository.findActiveSpansForEmployees(employeeIds, from, to)) {
+            LocalDate start = span.getStartDate().isBefore(from) ? from : span.getStartDate();
+            LocalDate end = span.getEndDate().isAfter(to) ? to : span.getEndDate();
+            addDeltas(expected, span.getEmployeeId(), start, end, span.getStatus(), 1);
+        }
+
+        for (UUID employeeId : employeeIds) {
+            for (int year = from.getYear(); year <= to.getYear(); year++) {
+                BalanceKey key = new BalanceKey(employeeId, year);
+                int[] days = expected.getOrDefault(key, new int[2]);
+                LeaveBalance balance = stored.get(key);
+                if (balance == null) {
+                    if (days[0] != 0 || days[1] != 0) {
+                        // No row to lock; a row created concurrently already holds its own recount, so keep it
+                        leaveBalanceRepository.upsertDays(employeeId, year, entitlementDays, days[0], days[1], 0, 0);
+                        drift[1]++;
+                    }
+                } else if (!Objects.equals(balance.getApprovedDays(), days[0])
+                        || !Objects.equals(balance.getPendingDays(), days[1])) {
+                    log.debug("Leave balance drift for {} in {}: stored {}/{}, expected {}/{}", employeeId, year,
+                        balance.getApprovedDays(), balance.getPendingDays(), days[0], days[1]);
+                    leaveBalanceRepository.setDays(employeeId, year, days[0], days[1]);
+                    drift[0]++;
+                }
+            }
+        }
+    }
+
+    // [approved, pending] working days of one employee's requests within the year
+    private int[] countDays(UUID employeeId, int year) {
+        LocalDate from = LocalDate.of(year, 1, 1);
+        LocalDate to = LocalDate.of(year, 12, 31);
+
+        Map<BalanceKey, int[]> counted = new HashMap<>();
+        for (AbsenceSpanView span : absenceRequestRepository.findActiveSpansForEmployees(List.of(employeeId), from, to)) {
+            LocalDate start = span.getStartDate().isBefore(from) ? from : span.getStartDate();
+            LocalDate end = span.getEndDate().isAfter(to) ? to : span.getEndDate();
+            addDeltas(counted, employeeId, start, end, span.getStatus(), 1);
+        }
+
+        return counted.getOrDefault(new BalanceKey(employeeId, year), new int[2]);
+    }
+
+    // Adds sign * working days of [start, end] to the approved (index 0) or pending (index 1) slot of each year touched
+    private void addDeltas(Map<BalanceKey, int[]> deltas, UUID employeeId, LocalDate start, LocalDate end,
+                           String status, int sign) {
+        int slot;
+        if ("approved".equals(status)) {
+            slot = 0;
+        } else if ("pending".equals(status)) {
+            slot = 1;
+        } else {
+            return; // rejected (or no previous status) doesn't count
+        }
+
+        LocalDate cursor = start;
+        while (!cursor.isAfter(end)) {
+            LocalDate yearEnd = LocalDate.of(cursor.getYear(), 12, 31);
+            LocalDate segmentEnd = end.isBefore(yearEnd) ? end : yearEnd;
+            int days = workingDayCalendar.workingDaysBetween(cursor, segmentEnd);
+            deltas.computeIfAbsent(new BalanceKey(employeeId, cursor.getYear()), key -> new int[2])[slot] += sign * days;
+            cursor = segmentEnd.plusDays(1);
+        }
+    }
+
+    private LeaveBalanceResponse mapToResponse(LeaveBalance balance, Map<UUID, String> names) {
+        LeaveBalanceResponse response = new LeaveBalanceResponse();
+        response.setEmployeeId(balance.getEmployeeId().toString());
+        response.setEmployeeName(names.get(balance.getEmployeeId()));
+        response.setYear(balance.getYear());
+        response.setEntitlementDays(balance.getEntitlementDays());
+        response.setApprovedDays(balance.getApprovedDays());
+        response.setPendingDays(balance.getPendingDays());
+        response.setRemainingDays(balance.getEntitlementDays() - balance.getApprovedDays());
+        return response;
+    }
+}
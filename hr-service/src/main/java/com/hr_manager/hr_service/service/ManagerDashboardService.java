@@ -0,0 +1,75 @@
+package com.hr_manager.hr_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hr_manager.hr_service.dto.ManagerDashboardResponse;
+import com.hr_manager.hr_service.exception.ForbiddenException;
+import com.hr_manager.hr_service.repository.DashboardRepository;
+import com.hr_manager.hr_service.security.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Service
+@Slf4j
+public class ManagerDashboardService {
+
+    private static final String KEY = "manager";
+
+    private final DashboardRepository dashboardRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<String, ManagerDashboardResponse> cache;
+    private final int upcomingDays;
+    private final int upcomingLimit;
+
+    public ManagerDashboardService(DashboardRepository dashboardRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${dashboard.manager.cache-ttl:PT5S}") Duration cacheTtl,
+                                   @Value("${dashboard.manager.upcoming-days:14}") int upcomingDays,
+                                   @Value("${dashboard.manager.upcoming-limit:100}") int upcomingLimit) {
+        this.dashboardRepository = dashboardRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Caffeine computes a missing entry once while concurrent callers wait for it,
+        // so a burst of managers after expiry costs a single set of queries
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(1)
+            .expireAfterWrite(cacheTtl)
+            .build();
+        this.upcomingDays = upcomingDays;
+        this.upcomingLimit = upcomingLimit;
+    }
+
+    public ManagerDashboardResponse getDashboard(UserPrincipal principal) {
+        if (!principal.isManager()) {
+            throw new ForbiddenException("Not authorized - manager role required");
+        }
+
+        return cache.get(KEY, key -> readOnlyTransaction.execute(status -> compute()));
+    }
+
+    private ManagerDashboardResponse compute() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        DashboardRepository.Totals totals = dashboardRepository.findTotals(now);
+        ManagerDashboardResponse response = new ManagerDashboardResponse(
+            totals.pendingAbsences(),
+            totals.oldestPendingCreatedAt(),
+            totals.feedbackLast7Days(),
+            totals.feedbackLast30Days(),
+            dashboardRepository.findHeadcounts(),
+            dashboardRepository.findUpcomingAbsences(today, today.plusDays(upcomingDays - 1L), upcomingLimit),
+            now
+        );
+        log.debug("Computed manager dashboard: {} pending, {} upcoming absences",
+            response.getPendingAbsences(), response.getUpcomingAbsences().size());
+        return response;
+    }
+}
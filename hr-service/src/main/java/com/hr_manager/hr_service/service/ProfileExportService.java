@@ -0,0 +1,117 @@
+package com.hr_manager.hr_service.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hr_manager.hr_service.repository.PublicProfileView;
+import com.hr_manager.hr_service.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+    private static final String CSV_HEADER = "id,name,email,department,position";
+
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    public void exportDirectory(OutputStream outputStream, Format format) {
+        // Runs on the async streaming thread, so the cursor needs its own transaction
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        template.executeWithoutResult(status -> {
+            try (Stream<PublicProfileView> rows = userRepository.streamAllPublicProfiles()) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                long count = format == Format.CSV
+                    ? writeCsv(rows.iterator(), writer)
+                    : writeNdjson(rows.iterator(), writer);
+                writer.flush();
+                log.info("Exported {} profiles as {}", count, format);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long writeNdjson(Iterator<PublicProfileView> rows, Writer writer) throws IOException {
+        long count = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (rows.hasNext()) {
+            PublicProfileView row = rows.next();
+            generator.writeStartObject();
+            generator.writeStringField("id", row.getId().toString());
+            generator.writeStringField("name", row.getName());
+            generator.writeStringField("email", row.getEmail());
+            generator.writeStringField("department", row.getDepartment());
+            generator.writeStringField("position", row.getPosition());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<PublicProfileView> rows, Writer writer) throws IOException {
+        long count = 0;
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            PublicProfileView row = rows.next();
+            writer.write(row.getId().toString());
+            writer.write(',');
+            writeCsvField(writer, row.getName());
+            writer.write(',');
+            writeCsvField(writer, row.getEmail());
+            writer.write(',');
+            writeCsvField(writer, row.getDepartment());
+            writer.write(',');
+            writeCsvField(writer, row.getPosition());
+            writer.write('\n');
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
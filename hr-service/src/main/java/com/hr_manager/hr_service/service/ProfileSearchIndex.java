@@ -0,0 +1,198 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.dto.PublicProfileResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Immutable index over the public directory: terms match by token prefix
+// (binary search over sorted tokens) and by trigram overlap for typos/infixes
+public final class ProfileSearchIndex {
+
+    private static final float EXACT_TOKEN_SCORE = 4f;
+    private static final float PREFIX_SCORE = 3f;
+    private static final float NAME_BONUS = 1f;
+    private static final float TRIGRAM_SCORE = 2f;
+    private static final float MIN_TRIGRAM_OVERLAP = 0.5f;
+
+    private final List<PublicProfileResponse> profiles;
+    private final String[] tokens;
+    private final int[] tokenDocs;
+    private final boolean[] tokenInName;
+    private final Map<String, int[]> trigramDocs;
+
+    private ProfileSearchIndex(List<PublicProfileResponse> profiles, String[] tokens, int[] tokenDocs,
+                               boolean[] tokenInName, Map<String, int[]> trigramDocs) {
+        this.profiles = profiles;
+        this.tokens = tokens;
+        this.tokenDocs = tokenDocs;
+        this.tokenInName = tokenInName;
+        this.trigramDocs = trigramDocs;
+    }
+
+    public static ProfileSearchIndex build(List<PublicProfileResponse> profiles) {
+        record Posting(String token, int doc, boolean inName) {
+        }
+
+        List<Posting> postings = new ArrayList<>();
+        Map<String, Set<Integer>> trigrams = new HashMap<>();
+
+        for (int doc = 0; doc < profiles.size(); doc++) {
+            PublicProfileResponse profile = profiles.get(doc);
+            String[] fields = {profile.getName(), profile.getEmail(), profile.getDepartment(), profile.getPosition()};
+            for (int field = 0; field < fields.length; field++) {
+                for (String token : tokenize(fields[field])) {
+                    postings.add(new Posting(token, doc, field == 0));
+                    for (String trigram : trigrams(token)) {
+                        trigrams.computeIfAbsent(trigram, key -> new HashSet<>()).add(doc);
+                    }
+                }
+            }
+        }
+
+        postings.sort(Comparator.comparing(Posting::token).thenComparingInt(Posting::doc));
+
+        String[] tokens = new String[postings.size()];
+        int[] tokenDocs = new int[postings.size()];
+        boolean[] tokenInName = new boolean[postings.size()];
+        for (int i = 0; i < postings.size(); i++) {
+            Posting posting = postings.get(i);
+            tokens[i] = posting.token();
+            tokenDocs[i] = posting.doc();
+            tokenInName[i] = posting.inName();
+        }
+
+        Map<String, int[]> trigramDocs = new HashMap<>(trigrams.size() * 2);
+        trigrams.forEach((trigram, docs) -> trigramDocs.put(trigram,
+            docs.stream().mapToInt(Integer::intValue).sorted().toArray()));
+
+        return new ProfileSearchIndex(List.copyOf(profiles), tokens, tokenDocs, tokenInName, trigramDocs);
+    }
+
+    public List<PublicProfileResponse> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || profiles.isEmpty()) {
+            return List.of();
+        }
+
+        float[] totals = new float[profiles.size()];
+        float[] termScores = new float[profiles.size()];
+        for (String term : terms) {
+            Arrays.fill(termScores, 0f);
+            scorePrefix(term, termScores);
+            scoreTrigrams(term, termScores);
+            for (int doc = 0; doc < totals.length; doc++) {
+                totals[doc] += termScores[doc];
+            }
+        }
+
+        // Keep the best `limit` docs in a min-heap instead of sorting every hit
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1,
+            Comparator.<Integer>comparingDouble(doc -> totals[doc]).thenComparingInt(doc -> -doc));
+        for (int doc = 0; doc < totals.length; doc++) {
+            if (totals[doc] <= 0f) {
+                continue;
+            }
+            top.offer(doc);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        PublicProfileResponse[] results = new PublicProfileResponse[top.size()];
+        for (int i = results.length - 1; i >= 0; i--) {
+            results[i] = profiles.get(top.poll());
+        }
+        return List.of(results);
+    }
+
+    private void scorePrefix(String term, float[] termScores) {
+        int start = lowerBound(term);
+        for (int i = start; i < tokens.length && tokens[i].startsWith(term); i++) {
+            float score = tokens[i].length() == term.length() ? EXACT_TOKEN_SCORE : PREFIX_SCORE;
+            if (tokenInName[i]) {
+                score += NAME_BONUS;
+            }
+            int doc = tokenDocs[i];
+            if (score > termScores[doc]) {
+                termScores[doc] = score;
+            }
+        }
+    }
+
+    private void scoreTrigrams(String term, float[] termScores) {
+        List<String> termTrigrams = trigrams(term).stream().distinct().toList();
+        if (termTrigrams.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Integer> hits = new HashMap<>();
+        for (String trigram : termTrigrams) {
+            int[] docs = trigramDocs.get(trigram);
+            if (docs == null) {
+                continue;
+            }
+            for (int doc : docs) {
+                hits.merge(doc, 1, Integer::sum);
+            }
+        }
+
+        for (Map.Entry<Integer, Integer> hit : hits.entrySet()) {
+            float overlap = (float) hit.getValue() / termTrigrams.size();
+            if (overlap < MIN_TRIGRAM_OVERLAP) {
+                continue;
+            }
+            float score = TRIGRAM_SCORE * overlap;
+            int doc = hit.getKey();
+            if (score > termScores[doc]) {
+                termScores[doc] = score;
+            }
+        }
+    }
+
+    private int lowerBound(String term) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(term) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> trigrams(String token) {
+        if (token.length() < 3) {
+            return List.of();
+        }
+        List<String> trigrams = new ArrayList<>(token.length() - 2);
+        for (int i = 0; i + 3 <= token.length(); i++) {
+            trigrams.add(token.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
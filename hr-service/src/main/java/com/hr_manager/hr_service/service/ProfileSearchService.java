@@ -0,0 +1,54 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.dto.PublicProfileResponse;
+import com.hr_manager.hr_service.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@RequiredArgsConstructor
+public class ProfileSearchService {
+
+    private final PublicDirectoryService publicDirectoryService;
+
+    @Value("${profiles.search.max-results:50}")
+    private int maxResults;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile IndexedSnapshot indexed;
+
+    private record IndexedSnapshot(PublicDirectoryService.Snapshot snapshot, ProfileSearchIndex index) {
+    }
+
+    public List<PublicProfileResponse> search(String query, int limit) {
+        if (limit < 1 || limit > maxResults) {
+            throw new BadRequestException("Limit must be between 1 and " + maxResults);
+        }
+        return currentIndex().search(query, limit);
+    }
+
+    private ProfileSearchIndex currentIndex() {
+        // The index is derived from the directory snapshot, so it follows
+        // profile updates and periodic refreshes without extra database reads
+        PublicDirectoryService.Snapshot snapshot = publicDirectoryService.getSnapshot();
+        IndexedSnapshot current = indexed;
+        if (current != null && current.snapshot() == snapshot) {
+            return current.index();
+        }
+        // ReentrantLock rather than synchronized, like the directory snapshot it indexes,
+        // so a virtual thread waiting here is never pinned to its carrier
+        lock.lock();
+        try {
+            if (indexed == null || indexed.snapshot() != snapshot) {
+                indexed = new IndexedSnapshot(snapshot, ProfileSearchIndex.build(snapshot.profiles()));
+            }
+            return indexed.index();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
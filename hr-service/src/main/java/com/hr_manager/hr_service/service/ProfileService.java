@@ -1,18 +1,25 @@
 package com.hr_manager.hr_service.service;
 
+import com.hr_manager.hr_service.dto.ProfileDirectoryPage;
 import com.hr_manager.hr_service.dto.ProfileResponse;
 import com.hr_manager.hr_service.dto.PublicProfileResponse;
 import com.hr_manager.hr_service.dto.UpdateProfileRequest;
 import com.hr_manager.hr_service.entity.User;
+import com.hr_manager.hr_service.event.ProfileUpdatedEvent;
+import com.hr_manager.hr_service.exception.BadRequestException;
 import com.hr_manager.hr_service.exception.ForbiddenException;
 import com.hr_manager.hr_service.exception.ResourceNotFoundException;
+import com.hr_manager.hr_service.repository.PublicProfileView;
 import com.hr_manager.hr_service.repository.UserRepository;
 import com.hr_manager.hr_service.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -21,27 +28,39 @@ import java.util.stream.Collectors;
 public class ProfileService {
 
     private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${profiles.directory.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${profiles.directory.max-page-size:200}")
+    private int maxPageSize;
 
     @Transactional(readOnly = true)
     public ProfileResponse getMyProfile(UserPrincipal principal) {
-        User user = userRepository.findById(principal.getUserId())
+        UserSnapshot user = userLookupService.findById(principal.getUserId())
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         return mapToFullProfile(user);
     }
 
+    // The ETag is null when the row has no update timestamp to version it by
+    public record VersionedProfile(Object profile, String etag) {
+    }
+
     @Transactional(readOnly = true)
-    public Object getProfileById(UUID profileId, UserPrincipal principal) {
-        User user = userRepository.findById(profileId)
+    public VersionedProfile getProfileById(UUID profileId, UserPrincipal principal) {
+        UserSnapshot user = userLookupService.findById(profileId)
             .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
 
-        // Manager or profile owner can see full profile
-        if (principal.isManager() || principal.getUserId().equals(profileId)) {
-            return mapToFullProfile(user);
-        }
+        // Manager or profile owner can see full profile, other employees the public one only.
+        // Both shapes are tagged apart, and from the same snapshot the body is built from
+        boolean full = principal.isManager() || principal.getUserId().equals(profileId);
+        String etag = user.updatedAt() == null ? null
+            : VersionTags.of("profile", profileId, full ? "full" : "public", user.updatedAt());
 
-        // Other employees see public profile only
-        return mapToPublicProfile(user);
+        return new VersionedProfile(full ? mapToFullProfile(user) : mapToPublicProfile(user), etag);
     }
 
     @Transactional
@@ -54,6 +73,8 @@ public class ProfileService {
         User user = userRepository.findById(profileId)
             .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
 
+        PublicProfileResponse publicBefore = mapToPublicProfile(UserSnapshot.from(user));
+
         // Update fields if provided
         if (request.getName() != null) {
             user.setName(request.getName());
@@ -80,43 +101,90 @@ public class ProfileService {
             user.setSalary(request.getSalary());
         }
 
-        User updatedUser = userRepository.save(user);
+        UserSnapshot updatedUser = UserSnapshot.from(userRepository.save(user));
+        userLookupService.evict(profileId);
+
+        PublicProfileResponse publicAfter = mapToPublicProfile(updatedUser);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(
+            profileId, publicAfter, !Objects.equals(publicBefore, publicAfter)));
 
         return mapToFullProfile(updatedUser);
     }
 
     @Transactional(readOnly = true)
     public List<PublicProfileResponse> getAllProfiles() {
-        return userRepository.findAll().stream()
+        return userRepository.findAllPublicProfiles().stream()
             .map(this::mapToPublicProfile)
             .collect(Collectors.toList());
     }
 
-    private ProfileResponse mapToFullProfile(User user) {
+    @Transactional(readOnly = true)
+    public ProfileDirectoryPage getProfileDirectoryPage(String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new BadRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<PublicProfileView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userRepository.findPublicProfilesFirstPage(pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = userRepository.findPublicProfilesAfter(after.sortKey(), after.id(), pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PublicProfileView> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PublicProfileView last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getName(), last.getId()).encode();
+        }
+
+        List<PublicProfileResponse> content = page.stream()
+            .map(this::mapToPublicProfile)
+            .collect(Collectors.toList());
+
+        return new ProfileDirectoryPage(content, nextCursor, hasNext);
+    }
+
+    private ProfileResponse mapToFullProfile(UserSnapshot user) {
         ProfileResponse response = new ProfileResponse();
-        response.setId(user.getId().toString());
-        response.setName(user.getName());
-        response.setEmail(user.getEmail());
-        response.setRole(user.getRole());
-        response.setDepartment(user.getDepartment());
-        response.setPosition(user.getPosition());
-        response.setHireDate(user.getHireDate());
-        response.setSalary(user.getSalary());
-        response.setPhoneNumber(user.getPhoneNumber());
-        response.setAddress(user.getAddress());
-        response.setEmergencyContact(user.getEmergencyContact());
-        response.setBankAccount(user.getBankAccount());
-        response.setSsn(user.getSsn());
+        response.setId(user.id().toString());
+        response.setName(user.name());
+        response.setEmail(user.email());
+        response.setRole(user.role());
+        response.setDepartment(user.department());
+        response.setPosition(user.position());
+        response.setHireDate(user.hireDate());
+        response.setSalary(user.salary());
+        response.setPhoneNumber(user.phoneNumber());
+        response.setAddress(user.address());
+        response.setEmergencyContact(user.emergencyContact());
+        response.setBankAccount(user.bankAccount());
+        response.setSsn(user.ssn());
+        return response;
+    }
+
+    private PublicProfileResponse mapToPublicProfile(PublicProfileView view) {
+        PublicProfileResponse response = new PublicProfileResponse();
+        response.setId(view.getId().toString());
+        response.setName(view.getName());
+        response.setEmail(view.getEmail());
+        response.setDepartment(view.getDepartment());
+        response.setPosition(view.getPosition());
         return response;
     }
 
-    private PublicProfileResponse mapToPublicProfile(User user) {
+    private PublicProfileResponse mapToPublicProfile(UserSnapshot user) {
         PublicProfileResponse response = new PublicProfileResponse();
-        response.setId(user.getId().toString());
-        response.setName(user.getName());
-        response.setEmail(user.getEmail());
-        response.setDepartment(user.getDepartment());
-        response.setPosition(user.getPosition());
+        response.setId(user.id().toString());
+        response.setName(user.name());
+        response.setEmail(user.email());
+        response.setDepartment(user.department());
+        response.setPosition(user.position());
         return response;
     }
 }
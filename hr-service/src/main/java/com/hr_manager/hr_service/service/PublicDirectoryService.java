@@ -0,0 +1,141 @@
+package com.hr_manager.hr_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hr_manager.hr_service.dto.PublicProfileResponse;
+import com.hr_manager.hr_service.event.ProfileUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PublicDirectoryService {
+
+    private final ProfileService profileService;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    // Identity and gzip bodies are separate representations, so each carries its own strong ETag
+    public record Snapshot(List<PublicProfileResponse> profiles, byte[] json, byte[] gzippedJson,
+                           String etag, String gzipEtag) {
+    }
+
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // ReentrantLock rather than synchronized: the first build queries the database,
+        // and blocking inside a monitor would pin a virtual thread to its carrier
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = buildSnapshot(profileService.getAllProfiles());
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${profiles.snapshot.refresh-interval:PT5M}",
+               initialDelayString = "${profiles.snapshot.refresh-interval:PT5M}")
+    public void refresh() {
+        // Picks up users created or changed outside this instance. Rebuilt under the lock so an
+        // update applied while the list is being read can't be overwritten by the older read
+        lock.lock();
+        try {
+            snapshot = buildSnapshot(profileService.getAllProfiles());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProfileUpdated(ProfileUpdatedEvent event) {
+        if (!event.isPublicFieldsChanged()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                return;
+            }
+
+            String id = event.getProfileId().toString();
+            PublicProfileResponse updated = event.getPublicProfile();
+            List<PublicProfileResponse> profiles = new ArrayList<>(snapshot.profiles());
+            int index = indexOf(profiles, id);
+
+            if (index >= 0 && Objects.equals(profiles.get(index).getName(), updated.getName())) {
+                // Same sort key, same position - no need to touch the database
+                profiles.set(index, updated);
+                snapshot = buildSnapshot(profiles);
+            } else {
+                // The position follows the database collation and uuid order, which an in-memory
+                // comparator doesn't reproduce, so re-read the list rather than re-sorting it here
+                snapshot = buildSnapshot(profileService.getAllProfiles());
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Public directory snapshot updated for profile {}", event.getProfileId());
+    }
+
+    private static int indexOf(List<PublicProfileResponse> profiles, String id) {
+        for (int i = 0; i < profiles.size(); i++) {
+            if (profiles.get(i).getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Snapshot buildSnapshot(List<PublicProfileResponse> profiles) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(profiles);
+            String hash = hash(json);
+            return new Snapshot(List.copyOf(profiles), json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize public directory", e);
+        }
+    }
+
+    private byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.dto.CoverageResponse;
+import com.hr_manager.hr_service.event.AbsenceStatusChangedEvent;
+import com.hr_manager.hr_service.event.ProfileUpdatedEvent;
+import com.hr_manager.hr_service.exception.BadRequestException;
+import com.hr_manager.hr_service.exception.ForbiddenException;
+import com.hr_manager.hr_service.repository.AbsenceRequestRepository;
+import com.hr_manager.hr_service.repository.AbsenceSpanView;
+import com.hr_manager.hr_service.repository.UserDepartmentView;
+import com.hr_manager.hr_service.repository.UserRepository;
+import com.hr_manager.hr_service.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamCoverageService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    // Absences are tracked up to the end of this many years after the current one
+    private static final int YEARS_AHEAD = 2;
+
+    private final AbsenceRequestRepository absenceRequestRepository;
+    private final UserRepository userRepository;
+    private final UserNameResolver userNameResolver;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // One reload at a time; it holds the write lock only to swap the new snapshot in
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private Map<String, DepartmentAbsenceBitmaps> departments = Map.of();
+    private Map<UUID, String> employeeDepartments = Map.of();
+    private Map<String, Integer> headcounts = Map.of();
+    // Events that arrived while a reload was reading, replayed onto its snapshot; null when idle
+    private List<AbsenceStatusChangedEvent> replay;
+    private volatile boolean loaded;
+    private volatile boolean stale = true;
+
+    // Versions of what coverage warnings are computed from: bumped per swapped-in snapshot and per
+    // department on every change to its approved absences. They are counters of this instance, so
+    // the instance id keeps tags from two instances from ever matching
+    private final String instanceId = UUID.randomUUID().toString();
+    private long generation;
+    private final Map<String, Long> departmentVersions = new HashMap<>();
+
+    public CoverageResponse getCoverage(String department, LocalDate from, LocalDate to, UserPrincipal principal) {
+        if (!principal.isManager()) {
+            throw new ForbiddenException("Not authorized - manager role required");
+        }
+        if (to.isBefore(from)) {
+            throw new BadRequestException("End date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("Coverage range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        ensureLoaded();
+        int headcount;
+        int[] approvedPerDay;
+        int[] pendingPerDay;
+        Map<UUID, Integer> approvedDays;
+        Map<UUID, Integer> pendingDays;
+
+        lock.readLock().lock();
+        try {
+            DepartmentAbsenceBitmaps bitmaps = departments.getOrDefault(department, new DepartmentAbsenceBitmaps());
+            headcount = headcounts.getOrDefault(department, 0);
+            approvedPerDay = bitmaps.countPerDay(from, to, "approved", null);
+            pendingPerDay = bitmaps.countPerDay(from, to, "pending", null);
+            approvedDays = bitmaps.daysPerEmployee(from, to, "approved");
+            pendingDays = bitmaps.daysPerEmployee(from, to, "pending");
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<CoverageResponse.Day> days = new ArrayList<>(approvedPerDay.length);
+        for (int i = 0; i < approvedPerDay.length; i++) {
+            days.add(new CoverageResponse.Day(from.plusDays(i), approvedPerDay[i], pendingPerDay[i]));
+        }
+
+        Set<UUID> absentEmployees = new HashSet<>(approvedDays.keySet());
+        absentEmployees.addAll(pendingDays.keySet());
+        Map<UUID, String> names = userNameResolver.resolveNames(absentEmployees);
+        List<CoverageResponse.Employee> employees = new ArrayList<>(absentEmployees.size());
+        for (UUID employeeId : absentEmployees) {
+            employees.add(new CoverageResponse.Employee(
+                employeeId.toString(),
+                names.get(employeeId),
+                approvedDays.getOrDefault(employeeId, 0),
+                pendingDays.getOrDefault(employeeId, 0)
+            ));
+        }
+        employees.sort((a, b) -> Integer.compare(
+            b.getApprovedDays() + b.getPendingDays(), a.getApprovedDays() + a.getPendingDays()));
+
+        return new CoverageResponse(department, from, to, headcount, days, employees);
+    }
+
+    public String coverageWarning(UUID employeeId, LocalDate from, LocalDate to) {
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            return null;
+        }
+
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            String department = employeeDepartments.get(employeeId);
+            DepartmentAbsenceBitmaps bitmaps = department == null ? null : departments.get(department);
+            if (bitmaps == null) {
+                return null;
+            }
+
+            int peak = 0;
+            for (int count : bitmaps.countPerDay(from, to, "approved", employeeId)) {
+                peak = Math.max(peak, count);
+            }
+            if (peak == 0) {
+                return null;
+            }
+            int colleagues = headcounts.getOrDefault(department, 1) - 1;
+            return String.format("Up to %d of %d colleagues in %s are already approved to be out during this period",
+                peak, colleagues, department);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Changes whenever the coverage warnings on this employee's pending requests may change
+    public String coverageVersion(UUID employeeId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            String department = employeeDepartments.get(employeeId);
+            return instanceId + ":" + generation + ":" + department + ":"
+                + (department == null ? 0L : departmentVersions.getOrDefault(department, 0L));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAbsenceStatusChanged(AbsenceStatusChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (replay != null) {
+                replay.add(event);
+            }
+            if (!loaded) {
+                // The first load reads it from the database, or replays it if it is already reading
+                return;
+            }
+            if (!apply(event, departments, employeeDepartments)) {
+                // Unknown employee (e.g. created after the last load) - rebuild on next read
+                stale = true;
+            } else if ("approved".equals(event.getPreviousStatus()) || "approved".equals(event.getNewStatus())) {
+                departmentVersions.merge(employeeDepartments.get(event.getEmployeeId()), 1L, Long::sum);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProfileUpdated(ProfileUpdatedEvent event) {
+        if (!event.isPublicFieldsChanged()) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            String department = employeeDepartments.get(event.getProfileId());
+            if (!Objects.equals(department, event.getPublicProfile().getDepartment())) {
+                stale = true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${absences.coverage.refresh-interval:PT15M}",
+               initialDelayString = "${absences.coverage.refresh-interval:PT15M}")
+    public void refresh() {
+        // Picks up changes made outside this instance, on the scheduler rather than a request thread
+        stale = true;
+        ensureLoaded();
+    }
+
+    private void ensureLoaded() {
+        if (!stale) {
+            return;
+        }
+        // Only the very first load makes readers wait; after that they keep using the current
+        // snapshot while one thread builds the next
+        if (loaded) {
+            if (!loadLock.tryLock()) {
+                return;
+            }
+        } else {
+            loadLock.lock();
+        }
+        try {
+            if (stale) {
+                reload();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // Builds the new snapshot without holding the lock, then replays the events that arrived while
+    // it was reading before swapping it in. A replayed event may already be in the snapshot;
+    // applying a status change twice leaves the same bits set
+    private void reload() {
+        // Cleared first, so a profile change flagged while reading triggers another reload
+        stale = false;
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<UUID, String> loadedEmployees = new HashMap<>();
+        Map<String, Integer> loadedHeadcounts = new HashMap<>();
+        Map<String, DepartmentAbsenceBitmaps> loadedDepartments = new HashMap<>();
+        int spans = 0;
+        try {
+            for (UserDepartmentView user : userRepository.findAllDepartments()) {
+                if (user.getDepartment() != null) {
+                    loadedEmployees.put(user.getId(), user.getDepartment());
+                    loadedHeadcounts.merge(user.getDepartment(), 1, Integer::sum);
+                }
+            }
+
+            for (AbsenceSpanView span : absenceRequestRepository.findActiveSpansEndingOnOrAfter(horizonStart())) {
+                String department = loadedEmployees.get(span.getEmployeeId());
+                if (department != null && mark(loadedDepartments, department, span.getEmployeeId(),
+                        span.getStartDate(), span.getEndDate(), span.getStatus(), true)) {
+                    spans++;
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replay = null;
+                stale = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (AbsenceStatusChangedEvent event : replay) {
+                if (!apply(event, loadedDepartments, loadedEmployees)) {
+                    stale = true;
+                }
+            }
+            replay = null;
+            departments = loadedDepartments;
+            employeeDepartments = loadedEmployees;
+            headcounts = loadedHeadcounts;
+            generation++;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded team coverage bitmaps: {} departments, {} absences", loadedDepartments.size(), spans);
+    }
+
+    // False when the employee has no known department
+    private static boolean apply(AbsenceStatusChangedEvent event, Map<String, DepartmentAbsenceBitmaps> departments,
+                                 Map<UUID, String> employeeDepartments) {
+        String department = employeeDepartments.get(event.getEmployeeId());
+        if (department == null) {
+            return false;
+        }
+        if (event.getPreviousStatus() != null) {
+            mark(departments, department, event.getEmployeeId(), event.getStartDate(), event.getEndDate(),
+                event.getPreviousStatus(), false);
+        }
+        mark(departments, department, event.getEmployeeId(), event.getStartDate(), event.getEndDate(),
+            event.getNewStatus(), true);
+        return true;
+    }
+
+    // Clipped to the coverage horizon, so an absurdly long span can't allocate a bitmap per year;
+    // false when nothing of the span falls inside it
+    private static boolean mark(Map<String, DepartmentAbsenceBitmaps> departments, String department, UUID employeeId,
+                                LocalDate startDate, LocalDate endDate, String status, boolean value) {
+        LocalDate from = startDate.isBefore(horizonStart()) ? horizonStart() : startDate;
+        LocalDate to = endDate.isAfter(horizonEnd()) ? horizonEnd() : endDate;
+        if (to.isBefore(from)) {
+            return false;
+        }
+        departments.computeIfAbsent(department, key -> new DepartmentAbsenceBitmaps())
+            .set(employeeId, from, to, status, value);
+        return true;
+    }
+
+    // Only last year onwards matters for coverage decisions
+    private static LocalDate horizonStart() {
+        return LocalDate.now().withDayOfYear(1).minusYears(1);
+    }
+
+    private static LocalDate horizonEnd() {
+        return LocalDate.now().withDayOfYear(1).plusYears(YEARS_AHEAD + 1).minusDays(1);
+    }
+}
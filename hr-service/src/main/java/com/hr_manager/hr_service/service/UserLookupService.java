@@ -0,0 +1,49 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class UserLookupService {
+
+    public static final String USERS_CACHE = "users";
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    // Caches a detached snapshot, never the managed entity, so callers can't share or mutate session state
+    @Cacheable(cacheNames = USERS_CACHE, key = "#userId", unless = "#result == null")
+    public Optional<UserSnapshot> findById(UUID userId) {
+        return userRepository.findById(userId).map(UserSnapshot::from);
+    }
+
+    public void evict(UUID userId) {
+        Cache cache = cacheManager.getCache(USERS_CACHE);
+        if (cache == null) {
+            return;
+        }
+
+        cache.evict(userId);
+
+        // Evict again once the change is committed, so a concurrent read
+        // can't re-cache the old row between now and the commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.exception.ResourceNotFoundException;
+import com.hr_manager.hr_service.repository.UserNameView;
+import com.hr_manager.hr_service.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class UserNameResolver {
+
+    private final UserRepository userRepository;
+
+    public <T> Map<UUID, String> resolveNames(Collection<T> rows, Function<T, UUID> idExtractor) {
+        Set<UUID> ids = new HashSet<>();
+        for (T row : rows) {
+            ids.add(idExtractor.apply(row));
+        }
+        return resolveNames(ids);
+    }
+
+    public Map<UUID, String> resolveNames(Set<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UserNameView> views = userRepository.findNamesByIdIn(ids);
+        Map<UUID, String> names = new HashMap<>(views.size() * 2);
+        for (UserNameView view : views) {
+            names.put(view.getId(), view.getName());
+        }
+        return names;
+    }
+
+    public static String requireName(Map<UUID, String> names, UUID id, String notFoundMessage) {
+        String name = names.get(id);
+        if (name == null) {
+            throw new ResourceNotFoundException(notFoundMessage);
+        }
+        return name;
+    }
+}
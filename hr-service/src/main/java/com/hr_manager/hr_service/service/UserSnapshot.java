@@ -0,0 +1,21 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Detached, immutable copy of a user row as held in the users cache; the password hash is left out
+public record UserSnapshot(UUID id, String email, String name, String role, String department, String position,
+                           LocalDate hireDate, BigDecimal salary, String phoneNumber, String address,
+                           String emergencyContact, String bankAccount, String ssn, LocalDateTime updatedAt) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+            user.getDepartment(), user.getPosition(), user.getHireDate(), user.getSalary(),
+            user.getPhoneNumber(), user.getAddress(), user.getEmergencyContact(), user.getBankAccount(),
+            user.getSsn(), user.getUpdatedAt());
+    }
+}
@@ -0,0 +1,26 @@
+package com.hr_manager.hr_service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class VersionTags {
+
+    private VersionTags() {
+    }
+
+    public static String of(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.hr_manager.hr_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class WorkingDayCalendar {
+
+    private final Set<DayOfWeek> weekend;
+    private final Set<LocalDate> holidays;
+    private final Set<MonthDay> recurringHolidays;
+
+    // workingDaysBefore[i] = working days in [origin, origin + i), so any in-range count is two array reads
+    private final LocalDate origin;
+    private final int[] workingDaysBefore;
+
+    public WorkingDayCalendar(@Value("${absences.calendar.weekend:SATURDAY,SUNDAY}") String[] weekendDays,
+                              @Value("${absences.calendar.holidays:}") String[] holidayEntries,
+                              @Value("${absences.calendar.years-back:5}") int yearsBack,
+                              @Value("${absences.calendar.years-ahead:5}") int yearsAhead) {
+        this.weekend = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : weekendDays) {
+            if (!day.isBlank()) {
+                weekend.add(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+
+        // "yyyy-MM-dd" is a one-off holiday, "MM-dd" repeats every year
+        this.holidays = new HashSet<>();
+        this.recurringHolidays = new HashSet<>();
+        for (String entry : holidayEntries) {
+            String value = entry.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (value.length() == 5) {
+                recurringHolidays.add(MonthDay.parse("--" + value));
+            } else {
+                holidays.add(LocalDate.parse(value));
+            }
+        }
+
+        int currentYear = LocalDate.now().getYear();
+        this.origin = LocalDate.of(currentYear - yearsBack, 1, 1);
+        LocalDate end = LocalDate.of(currentYear + yearsAhead, 12, 31);
+        int days = (int) ChronoUnit.DAYS.between(origin, end) + 1;
+
+        this.workingDaysBefore = new int[days + 1];
+        LocalDate date = origin;
+        for (int i = 0; i < days; i++) {
+            workingDaysBefore[i + 1] = workingDaysBefore[i] + (isWorkingDay(date) ? 1 : 0);
+            date = date.plusDays(1);
+        }
+        log.info("Loaded working-day calendar {} to {}: {} working days, {} holidays ({} recurring)",
+            origin, end, workingDaysBefore[days], holidays.size() + recurringHolidays.size(), recurringHolidays.size());
+    }
+
+    // Inclusive on both ends; constant time inside the precomputed window. Outside it the weeks are
+    // counted arithmetically and holidays subtracted, so even a span of centuries stays cheap
+    public int workingDaysBetween(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return 0;
+        }
+        long start = ChronoUnit.DAYS.between(origin, from);
+        long end = ChronoUnit.DAYS.between(origin, to) + 1;
+        if (start >= 0 && end < workingDaysBefore.length) {
+            return workingDaysBefore[(int) end] - workingDaysBefore[(int) start];
+        }
+        return countArithmetically(from, to);
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return !weekend.contains(date.getDayOfWeek())
+            && !holidays.contains(date)
+            && !recurringHolidays.contains(MonthDay.from(date));
+    }
+
+    private int countArithmetically(LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        long count = days / 7 * (7 - weekend.size());
+        // The remaining days are fewer than a week, starting on from's weekday
+        DayOfWeek day = from.getDayOfWeek();
+        for (long i = 0; i < days % 7; i++) {
+            if (!weekend.contains(day)) {
+                count++;
+            }
+            day = day.plus(1);
+        }
+
+        for (LocalDate holiday : holidays) {
+            // A one-off holiday that also recurs is subtracted with the recurring ones
+            if (!holiday.isBefore(from) && !holiday.isAfter(to) && !weekend.contains(holiday.getDayOfWeek())
+                    && !recurringHolidays.contains(MonthDay.from(holiday))) {
+                count--;
+            }
+        }
+        for (MonthDay recurring : recurringHolidays) {
+            for (int year = from.getYear(); year <= to.getYear(); year++) {
+                if (!recurring.isValidYear(year)) {
+                    continue;
+                }
+                LocalDate holiday = recurring.atYear(year);
+                if (!holiday.isBefore(from) && !holiday.isAfter(to) && !weekend.contains(holiday.getDayOfWeek())) {
+                    count--;
+                }
+            }
+        }
+        return (int) count;
+    }
+
+    // Reference count for tests
+    int countByIteration(LocalDate from, LocalDate to) {
+        int count = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (isWorkingDay(date)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,2 @@
+-- Supports keyset pagination of the public directory on (name, id)
+CREATE INDEX idx_users_name_id ON users(name, id);
@@ -0,0 +1,6 @@
+-- Full-text search over feedback content
+ALTER TABLE feedback
+    ADD COLUMN content_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', content)) STORED;
+
+CREATE INDEX idx_feedback_content_tsv ON feedback USING GIN (content_tsv);
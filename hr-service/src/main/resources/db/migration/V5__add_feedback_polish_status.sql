@@ -0,0 +1,11 @@
+-- Track background AI polishing of feedback
+ALTER TABLE feedback ADD COLUMN polish_status VARCHAR(20) NOT NULL DEFAULT 'none';
+ALTER TABLE feedback ADD COLUMN polish_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE feedback ADD COLUMN updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE feedback SET polish_status = 'done' WHERE is_polished = TRUE;
+UPDATE feedback SET updated_at = created_at;
+
+-- Only pending/failed rows are ever scanned by the retry sweeper
+CREATE INDEX idx_feedback_polish_retry ON feedback(polish_status, updated_at)
+    WHERE polish_status IN ('pending', 'failed');
@@ -0,0 +1,2 @@
+-- Optimistic locking for absence request decisions
+ALTER TABLE absence_requests ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
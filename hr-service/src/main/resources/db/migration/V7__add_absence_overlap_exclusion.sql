@@ -0,0 +1,93 @@
+-- Prevent overlapping absence requests per employee at the database level
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE absence_requests
+    ADD COLUMN period daterange
+    GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED;
+
+-- Overlaps were never checked before this migration, and the constraint below can't be
+-- added while any exist.
+--
+-- Two overlapping approved requests mean leave was granted twice. Rejecting either would
+-- silently take granted leave away, so the migration stops and lists them for a manual fix.
+--
+-- Otherwise each affected employee's non-rejected requests are walked in rank order (approved
+-- before pending, then the earlier request) and a request is kept unless it overlaps one kept
+-- so far. In a chain where A overlaps B and B overlaps C, rejecting B keeps C. Every rejected
+-- request is listed as a NOTICE in the migration output for follow-up.
+DO $$
+DECLARE
+    clash RECORD;
+    conflict_count INTEGER := 0;
+    candidate RECORD;
+    current_employee UUID;
+    kept daterange[];
+    resolved_count INTEGER := 0;
+BEGIN
+    FOR clash IN
+        SELECT one.employee_id, one.id AS first_id, other.id AS second_id
+          FROM absence_requests one
+          JOIN absence_requests other
+            ON other.employee_id = one.employee_id
+           AND other.id > one.id
+           AND other.period && one.period
+         WHERE one.status = 'approved'
+           AND other.status = 'approved'
+    LOOP
+        conflict_count := conflict_count + 1;
+        RAISE WARNING 'Approved absence requests % and % of employee % overlap',
+            clash.first_id, clash.second_id, clash.employee_id;
+    END LOOP;
+
+    IF conflict_count > 0 THEN
+        RAISE EXCEPTION '% pairs of approved absence requests overlap; resolve them before adding absence_requests_no_overlap',
+            conflict_count;
+    END IF;
+
+    FOR candidate IN
+        SELECT a.id, a.employee_id, a.start_date, a.end_date, a.period
+          FROM absence_requests a
+         WHERE a.status <> 'rejected'
+           AND a.employee_id IN (
+               SELECT one.employee_id
+                 FROM absence_requests one
+                 JOIN absence_requests other
+                   ON other.employee_id = one.employee_id
+                  AND other.id <> one.id
+                  AND other.period && one.period
+                WHERE one.status <> 'rejected'
+                  AND other.status <> 'rejected'
+           )
+         ORDER BY a.employee_id,
+                  CASE a.status WHEN 'approved' THEN 0 ELSE 1 END,
+                  a.created_at NULLS FIRST,
+                  a.id
+    LOOP
+        IF current_employee IS DISTINCT FROM candidate.employee_id THEN
+            current_employee := candidate.employee_id;
+            kept := ARRAY[]::daterange[];
+        END IF;
+
+        IF EXISTS (SELECT 1 FROM unnest(kept) AS kept_period WHERE kept_period && candidate.period) THEN
+            UPDATE absence_requests
+               SET status = 'rejected', version = version + 1, updated_at = LOCALTIMESTAMP
+             WHERE id = candidate.id;
+            resolved_count := resolved_count + 1;
+            RAISE NOTICE 'Rejected overlapping absence request % (employee %, % to %)',
+                candidate.id, candidate.employee_id, candidate.start_date, candidate.end_date;
+        ELSE
+            kept := kept || candidate.period;
+        END IF;
+    END LOOP;
+
+    IF resolved_count > 0 THEN
+        RAISE NOTICE 'Rejected % overlapping absence requests before adding absence_requests_no_overlap',
+            resolved_count;
+    END IF;
+END $$;
+
+-- Rejected requests never block new ones
+ALTER TABLE absence_requests
+    ADD CONSTRAINT absence_requests_no_overlap
+    EXCLUDE USING gist (employee_id WITH =, period WITH &&)
+    WHERE (status <> 'rejected');
@@ -0,0 +1,27 @@
+-- Incrementally maintained leave ledger, one row per employee and year
+CREATE TABLE leave_balances (
+    employee_id UUID NOT NULL REFERENCES users(id),
+    balance_year INTEGER NOT NULL,
+    entitlement_days INTEGER NOT NULL,
+    approved_days INTEGER NOT NULL DEFAULT 0,
+    pending_days INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (employee_id, balance_year)
+);
+
+CREATE INDEX idx_leave_balances_year ON leave_balances(balance_year);
+
+-- Backfill from existing requests (rejected ones don't count). Balances are in working days;
+-- this counts Monday to Friday, and the reconciliation job applies the configured holidays
+-- and weekend (absences.calendar.*) to last, current and next year on its first run.
+INSERT INTO leave_balances (employee_id, balance_year, entitlement_days, approved_days, pending_days)
+SELECT a.employee_id,
+       EXTRACT(YEAR FROM d)::INTEGER,
+       25,
+       COUNT(*) FILTER (WHERE a.status = 'approved'),
+       COUNT(*) FILTER (WHERE a.status = 'pending')
+  FROM absence_requests a
+ CROSS JOIN LATERAL generate_series(a.start_date, a.end_date, INTERVAL '1 day') AS d
+ WHERE a.status <> 'rejected'
+   AND EXTRACT(ISODOW FROM d) < 6
+ GROUP BY a.employee_id, EXTRACT(YEAR FROM d);
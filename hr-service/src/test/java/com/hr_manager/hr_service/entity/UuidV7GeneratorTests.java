@@ -0,0 +1,32 @@
+package com.hr_manager.hr_service.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTests {
+
+    @Test
+    void setsVersionAndVariantAndEmbedsTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void isStrictlyIncreasingWithinTheSameMillisecond() {
+        // Compared as unsigned bytes, the way Postgres orders uuid values
+        UUID previous = UuidV7Generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7Generator.next();
+            assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+                .isPositive();
+            previous = current;
+        }
+    }
+}
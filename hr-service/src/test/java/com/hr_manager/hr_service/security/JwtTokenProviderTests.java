@@ -0,0 +1,56 @@
+package com.hr_manager.hr_service.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTests {
+
+    private static final String SECRET = "test-secret-key-for-testing-purposes-min-256-bits-required";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 100, meterRegistry);
+
+    @Test
+    void repeatedTokenIsServedFromTheCache() {
+        UUID userId = UUID.randomUUID();
+        String token = token(userId, SECRET);
+
+        UserPrincipal first = provider.getUserPrincipalFromToken(token);
+        UserPrincipal second = provider.getUserPrincipalFromToken(token);
+
+        assertThat(first.getUserId()).isEqualTo(userId);
+        assertThat(first.getRole()).isEqualTo("manager");
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", JwtTokenProvider.TOKEN_CACHE)
+            .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String forged = token(UUID.randomUUID(), "another-secret-key-that-is-also-long-enough-for-hmac-sha");
+
+        assertThatThrownBy(() -> provider.getUserPrincipalFromToken(forged))
+            .isInstanceOf(SignatureException.class);
+    }
+
+    private static String token(UUID userId, String secret) {
+        return Jwts.builder()
+            .claim("userId", userId.toString())
+            .claim("email", "manager@example.com")
+            .claim("role", "manager")
+            .claim("name", "Manager")
+            .expiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    }
+}
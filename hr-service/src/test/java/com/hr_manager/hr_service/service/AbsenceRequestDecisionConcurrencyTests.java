@@ -0,0 +1,99 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.entity.AbsenceRequest;
+import com.hr_manager.hr_service.entity.LeaveBalance;
+import com.hr_manager.hr_service.entity.LeaveBalanceId;
+import com.hr_manager.hr_service.exception.ConflictException;
+import com.hr_manager.hr_service.repository.AbsenceRequestRepository;
+import com.hr_manager.hr_service.repository.LeaveBalanceRepository;
+import com.hr_manager.hr_service.security.UserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AbsenceRequestDecisionConcurrencyTests {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private AbsenceRequestService absenceRequestService;
+
+    @Autowired
+    private AbsenceRequestRepository absenceRequestRepository;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Test
+    void onlyOneConcurrentDecisionWins() throws Exception {
+        AbsenceRequest request = new AbsenceRequest();
+        request.setEmployeeId(UUID.randomUUID());
+        request.setStartDate(LocalDate.of(2026, 3, 2));
+        request.setEndDate(LocalDate.of(2026, 3, 6));
+        request.setReason("Vacation");
+        request.setStatus("pending");
+        UUID requestId = absenceRequestRepository.save(request).getId();
+        // Seeded so decisions take the ledger UPDATE path; the first-row upsert is Postgres-only SQL
+        leaveBalanceRepository.save(new LeaveBalance(request.getEmployeeId(), 2026, 25, 0, 5, null));
+
+        UserPrincipal manager = new UserPrincipal(UUID.randomUUID(), "manager@example.com", "manager", "Manager");
+
+        AtomicInteger wins = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                boolean approve = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        if (approve) {
+                            absenceRequestService.approveAbsenceRequest(requestId, manager);
+                        } else {
+                            absenceRequestService.rejectAbsenceRequest(requestId, manager);
+                        }
+                        wins.incrementAndGet();
+                    } catch (ConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(wins.get()).isEqualTo(1);
+        assertThat(conflicts.get()).isEqualTo(THREADS - 1);
+
+        AbsenceRequest decided = absenceRequestRepository.findById(requestId).orElseThrow();
+        assertThat(decided.getStatus()).isIn("approved", "rejected");
+        assertThat(decided.getVersion()).isEqualTo(1L);
+
+        // Mon-Fri, so five working days move out of pending exactly once
+        LeaveBalance balance = leaveBalanceRepository.findById(
+            new LeaveBalanceId(request.getEmployeeId(), 2026)).orElseThrow();
+        assertThat(balance.getPendingDays()).isZero();
+        assertThat(balance.getApprovedDays()).isEqualTo("approved".equals(decided.getStatus()) ? 5 : 0);
+    }
+}
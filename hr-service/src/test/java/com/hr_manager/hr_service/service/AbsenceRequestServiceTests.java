@@ -0,0 +1,100 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.dto.AbsenceRequestResponse;
+import com.hr_manager.hr_service.dto.CreateAbsenceRequestRequest;
+import com.hr_manager.hr_service.entity.AbsenceRequest;
+import com.hr_manager.hr_service.entity.LeaveBalance;
+import com.hr_manager.hr_service.entity.User;
+import com.hr_manager.hr_service.exception.BadRequestException;
+import com.hr_manager.hr_service.repository.AbsenceRequestRepository;
+import com.hr_manager.hr_service.repository.LeaveBalanceRepository;
+import com.hr_manager.hr_service.repository.UserRepository;
+import com.hr_manager.hr_service.security.UserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AbsenceRequestServiceTests {
+
+    @Autowired
+    private AbsenceRequestService absenceRequestService;
+
+    @Autowired
+    private TeamCoverageService teamCoverageService;
+
+    @Autowired
+    private AbsenceRequestRepository absenceRequestRepository;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void myAbsencesTagChangesWhenAColleaguesOverlappingRequestIsApproved() {
+        String department = "Coverage-" + UUID.randomUUID();
+        User alice = userRepository.save(newUser("alice", department));
+        User bob = userRepository.save(newUser("bob", department));
+        int year = LocalDate.now().getYear() + 1;
+        pending(alice.getId(), LocalDate.of(year, 3, 2), LocalDate.of(year, 3, 6));
+        UUID bobsRequest = pending(bob.getId(), LocalDate.of(year, 3, 4), LocalDate.of(year, 3, 10));
+        // Seeded so the decision takes the ledger UPDATE path; the first-row upsert is Postgres-only SQL
+        leaveBalanceRepository.save(new LeaveBalance(bob.getId(), year, 25, 0, 5, null));
+        teamCoverageService.refresh();
+
+        UserPrincipal principal = new UserPrincipal(alice.getId(), alice.getEmail(), "employee", alice.getName());
+        String before = absenceRequestService.getMyAbsenceRequestsVersion(principal);
+        assertThat(absenceRequestService.getMyAbsenceRequests(principal))
+            .extracting(AbsenceRequestResponse::getCoverageWarning)
+            .containsOnlyNulls();
+
+        UserPrincipal manager = new UserPrincipal(UUID.randomUUID(), "manager@example.com", "manager", "Manager");
+        absenceRequestService.approveAbsenceRequest(bobsRequest, manager);
+
+        assertThat(absenceRequestService.getMyAbsenceRequestsVersion(principal)).isNotEqualTo(before);
+        assertThat(absenceRequestService.getMyAbsenceRequests(principal))
+            .extracting(AbsenceRequestResponse::getCoverageWarning)
+            .doesNotContainNull();
+    }
+
+    @Test
+    void requestsLongerThanTheSpanBoundAreRejected() {
+        UUID employeeId = UUID.randomUUID();
+        UserPrincipal principal = new UserPrincipal(employeeId, "long@example.com", "employee", "Long");
+        LocalDate start = LocalDate.of(LocalDate.now().getYear() + 1, 1, 1);
+        CreateAbsenceRequestRequest request = new CreateAbsenceRequestRequest(start,
+            start.plusDays(AbsenceRequestService.MAX_SPAN_DAYS), "Sabbatical");
+
+        assertThatThrownBy(() -> absenceRequestService.createAbsenceRequest(request, principal))
+            .isInstanceOf(BadRequestException.class);
+        assertThat(absenceRequestRepository.findByEmployeeIdOrderByCreatedAtDesc(employeeId)).isEmpty();
+    }
+
+    private UUID pending(UUID employeeId, LocalDate startDate, LocalDate endDate) {
+        AbsenceRequest request = new AbsenceRequest();
+        request.setEmployeeId(employeeId);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        request.setReason("Vacation");
+        request.setStatus("pending");
+        return absenceRequestRepository.save(request).getId();
+    }
+
+    private User newUser(String name, String department) {
+        User user = new User();
+        user.setEmail(name + "-" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("hash");
+        user.setName(name);
+        user.setRole("employee");
+        user.setDepartment(department);
+        return user;
+    }
+}
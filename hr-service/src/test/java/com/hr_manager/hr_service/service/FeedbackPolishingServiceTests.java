@@ -0,0 +1,101 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.config.AsyncConfig;
+import com.hr_manager.hr_service.dto.CreateFeedbackRequest;
+import com.hr_manager.hr_service.entity.Feedback;
+import com.hr_manager.hr_service.entity.User;
+import com.hr_manager.hr_service.repository.FeedbackRepository;
+import com.hr_manager.hr_service.repository.UserRepository;
+import com.hr_manager.hr_service.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class FeedbackPolishingServiceTests {
+
+    @MockitoBean(name = AsyncConfig.FEEDBACK_POLISH_EXECUTOR)
+    private ThreadPoolTaskExecutor polishExecutor;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackPolishingService feedbackPolishingService;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User profile;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        feedbackRepository.deleteAll();
+        userRepository.deleteAll();
+        profile = userRepository.save(newUser("profile"));
+        author = userRepository.save(newUser("author"));
+    }
+
+    @Test
+    void fullQueueLeavesFeedbackDeferredWithoutFailingTheRequest() {
+        doThrow(new TaskRejectedException("queue full")).when(polishExecutor).execute(any(Runnable.class));
+
+        UserPrincipal principal = new UserPrincipal(author.getId(), author.getEmail(), "employee", author.getName());
+        String id = feedbackService.createFeedback(profile.getId(),
+            new CreateFeedbackRequest("Great work", true), principal).getId();
+
+        Feedback stored = feedbackRepository.findById(UUID.fromString(id)).orElseThrow();
+        assertThat(stored.getPolishStatus()).isEqualTo("failed");
+        assertThat(stored.getPolishAttempts()).isZero();
+    }
+
+    @Test
+    void stalePendingFeedbackIsResubmittedOncePerStaleWindow() {
+        Feedback feedback = new Feedback();
+        feedback.setProfileId(profile.getId());
+        feedback.setAuthorId(author.getId());
+        feedback.setContent("Needs polish");
+        feedback.setPolishStatus("pending");
+        UUID id = feedbackRepository.save(feedback).getId();
+        jdbcTemplate.update("UPDATE feedback SET updated_at = ? WHERE id = ?", LocalDateTime.now().minusHours(1), id);
+        clearInvocations(polishExecutor);
+
+        feedbackPolishingService.retryFailed();
+        feedbackPolishingService.retryFailed();
+
+        verify(polishExecutor, times(1)).execute(any(Runnable.class));
+        assertThat(feedbackRepository.findById(id).orElseThrow().getUpdatedAt())
+            .isAfter(LocalDateTime.now().minusMinutes(1));
+    }
+
+    private User newUser(String name) {
+        User user = new User();
+        user.setEmail(name + "-" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("hash");
+        user.setName(name);
+        user.setRole("employee");
+        return user;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hr_manager.hr_service.service;
+
+import com.hr_manager.hr_service.entity.Feedback;
+import com.hr_manager.hr_service.entity.User;
+import com.hr_manager.hr_service.repository.FeedbackRepository;
+import com.hr_manager.hr_service.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class FeedbackServiceQueryCountTests {
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        feedbackRepository.deleteAll();
+        userRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithFeedbackCount() {
+        long small = countStatementsForProfileWithFeedback(5);
+        long large = countStatementsForProfileWithFeedback(50);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long countStatementsForProfileWithFeedback(int feedbackCount) {
+        User profile = userRepository.save(newUser("profile"));
+        for (int i = 0; i < feedbackCount; i++) {
+            User author = userRepository.save(newUser("author-" + i));
+            Feedback feedback = new Feedback();
+            feedback.setProfileId(profile.getId());
+            feedback.setAuthorId(author.getId());
+            feedback.setContent("Feedback " + i);
+            feedbackRepository.save(feedback);
+        }
+
+        statistics.clear();
+        assertThat(feedbackService.getFeedbackForProfile(profile.getId())).hasSize(feedbackCount);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User newUser(String name) {
+        User user = new User();
+        user.setEmail(name + "-" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("hash");
+        user.setName(name);
+        user.setRole("employee");
+        return user;
+    }
+}
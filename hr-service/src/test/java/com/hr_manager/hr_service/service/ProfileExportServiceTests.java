@@ -0,0 +1,119 @@
+package com.hr_manager.hr_service.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hr_manager.hr_service.entity.User;
+import com.hr_manager.hr_service.repository.FeedbackRepository;
+import com.hr_manager.hr_service.repository.UserRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProfileExportServiceTests {
+
+    @Autowired
+    private ProfileExportService profileExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    private User plain;
+    private User awkward;
+
+    @BeforeEach
+    void setUp() {
+        feedbackRepository.deleteAll();
+        userRepository.deleteAll();
+        plain = userRepository.save(newUser("Alice", "Engineering", "Developer"));
+        awkward = userRepository.save(newUser("Smith, \"Bob\"", "R&D\nLab", "Lead, Platform"));
+    }
+
+    @Test
+    void csvQuotesFieldsWithSeparatorsQuotesAndNewlines() {
+        String csv = export(ProfileExportService.Format.CSV);
+
+        assertThat(csv).isEqualTo("id,name,email,department,position\n"
+            + plain.getId() + ",Alice," + plain.getEmail() + ",Engineering,Developer\n"
+            + awkward.getId() + ",\"Smith, \"\"Bob\"\"\"," + awkward.getEmail() + ",\"R&D\nLab\",\"Lead, Platform\"\n");
+    }
+
+    @Test
+    void ndjsonWritesOneEscapedObjectPerLine() throws Exception {
+        List<String> lines = export(ProfileExportService.Format.NDJSON).lines().toList();
+
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(first.get("id").asText()).isEqualTo(plain.getId().toString());
+        assertThat(first.get("name").asText()).isEqualTo("Alice");
+        assertThat(second.get("name").asText()).isEqualTo("Smith, \"Bob\"");
+        assertThat(second.get("department").asText()).isEqualTo("R&D\nLab");
+        assertThat(second.has("salary")).isFalse();
+    }
+
+    @Test
+    void exportIsForbiddenForEmployees() throws Exception {
+        mockMvc.perform(get("/profiles/export")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(plain, "employee")))
+            .andExpect(status().isForbidden());
+    }
+
+    private String export(ProfileExportService.Format format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        profileExportService.exportDirectory(out, format);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String token(User user, String role) {
+        return Jwts.builder()
+            .claim("userId", user.getId().toString())
+            .claim("email", user.getEmail())
+            .claim("role", role)
+            .claim("name", user.getName())
+            .expiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    }
+
+    private User newUser(String name, String department, String position) {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("hash");
+        user.setName(name);
+        user.setRole("employee");
+        user.setDepartment(department);
+        user.setPosition(position);
+        return user;
+    }
+}
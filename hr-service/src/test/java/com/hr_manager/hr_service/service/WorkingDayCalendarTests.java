@@ -0,0 +1,52 @@
+package com.hr_manager.hr_service.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkingDayCalendarTests {
+
+    private final WorkingDayCalendar calendar = new WorkingDayCalendar(
+        new String[] {"SATURDAY", "SUNDAY"}, new String[] {"01-01", "12-25", "2026-04-06"}, 5, 5);
+
+    @Test
+    void excludesWeekendsAndHolidays() {
+        // Mon 2026-04-06 is a one-off holiday, Sat/Sun 11-12 are weekend
+        assertThat(calendar.workingDaysBetween(LocalDate.of(2026, 4, 6), LocalDate.of(2026, 4, 12))).isEqualTo(4);
+        assertThat(calendar.workingDaysBetween(LocalDate.of(2026, 12, 25), LocalDate.of(2026, 12, 25))).isZero();
+        assertThat(calendar.workingDaysBetween(LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 9))).isZero();
+    }
+
+    @Test
+    void matchesDayByDayCountingInsideAndOutsideTheWindow() {
+        Random random = new Random(42);
+        LocalDate base = LocalDate.now().withDayOfYear(1).minusYears(8);
+        for (int i = 0; i < 2000; i++) {
+            LocalDate from = base.plusDays(random.nextInt(365 * 16));
+            LocalDate to = from.plusDays(random.nextInt(400));
+            assertThat(calendar.workingDaysBetween(from, to))
+                .as("%s..%s", from, to)
+                .isEqualTo(calendar.countByIteration(from, to));
+        }
+    }
+
+    @Test
+    void countsLongSpansOutsideTheWindowWithoutWalkingThem() {
+        // Starts on a Thursday and crosses leap years, so partial weeks and Feb 29 both matter
+        LocalDate from = LocalDate.of(1900, 3, 1);
+        LocalDate to = LocalDate.of(2150, 7, 15);
+        assertThat(calendar.workingDaysBetween(from, to)).isEqualTo(calendar.countByIteration(from, to));
+
+        WorkingDayCalendar leapHoliday = new WorkingDayCalendar(
+            new String[] {"SATURDAY", "SUNDAY"}, new String[] {"02-29", "2100-02-26"}, 5, 5);
+        LocalDate leapFrom = LocalDate.of(2090, 1, 1);
+        LocalDate leapTo = LocalDate.of(2110, 12, 31);
+        assertThat(leapHoliday.workingDaysBetween(leapFrom, leapTo))
+            .isEqualTo(leapHoliday.countByIteration(leapFrom, leapTo));
+
+        assertThat(calendar.workingDaysBetween(LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31))).isPositive();
+    }
+}